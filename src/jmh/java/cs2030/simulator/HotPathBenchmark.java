@@ -0,0 +1,317 @@
+package cs2030.simulator;
+
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the simulator hot paths, one operation each.
+ * covers EventQueue and TimeQueue churn per SchedulerType, the draws of each VariateType,
+ * server selection over many servers, the shared self-checkout queue and trace formatting.
+ * run with -prof gc for the bytes per operation.
+ * usage: java -jar target/benchmarks.jar HotPathBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathBenchmark {
+
+    private static final int SEED = 1;
+    private static final int NUM_SERVERS = 10;
+    private static final int NUM_SELF_CHECKOUT = 3;
+    private static final int MAX_QUEUE = 5;
+    private static final double ARRIVAL_RATE = 12.0;
+    private static final double SERVICE_RATE = 1.0;
+    private static final double RESTING_RATE = 0.1;
+    private static final double PROB_REST = 0.1;
+    private static final double PROB_GREEDY = 0.3;
+
+    /**
+     * Inputs drawn up front and cycled through, a power of 2.
+     */
+    private static final int INPUTS = 1 << 16;
+    private static final int PENDING_EVENTS = 1000;
+    private static final int MANY_SERVERS = 1000;
+
+    /**
+     * Random increments of the hold model, cycled through.
+     * @return INPUTS exponential increments of mean 1
+     */
+    private static double[] increments() {
+        Random random = new Random(SEED);
+        double[] increments = new double[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            increments[i] = -Math.log(1.0 - random.nextDouble());
+        }
+        return increments;
+    }
+
+    /**
+     * Hold model on an EventQueue, PENDING_EVENTS events pending throughout.
+     */
+    @State(Scope.Thread)
+    public static class EventQueueState {
+        @Param({"PRIORITY_QUEUE", "HEAP", "CALENDAR"})
+        public SchedulerType schedulerType;
+
+        private EventQueue pq;
+        private double[] increments;
+        private int nextId;
+
+        @Setup
+        public void setUp() {
+            this.increments = increments();
+            this.pq = this.schedulerType.create(PENDING_EVENTS);
+            this.nextId = 1;
+            for (int i = 0; i < PENDING_EVENTS; i++) {
+                this.pq.add(new Event(new Customer(this.nextId, this.increments[i])));
+                this.nextId++;
+            }
+        }
+    }
+
+    /**
+     * Hold model on a TimeQueue, as EventQueueState without any allocation.
+     */
+    @State(Scope.Thread)
+    public static class TimeQueueState {
+        @Param({"PRIORITY_QUEUE", "HEAP", "CALENDAR"})
+        public SchedulerType schedulerType;
+
+        private TimeQueue pq;
+        private double[] times;
+        private double[] increments;
+        private int nextId;
+
+        @Setup
+        public void setUp() {
+            this.increments = increments();
+            this.pq = this.schedulerType.createTimeQueue(PENDING_EVENTS);
+            this.times = new double[PENDING_EVENTS];
+            this.nextId = 1;
+            for (int i = 0; i < PENDING_EVENTS; i++) {
+                this.times[i] = this.increments[i];
+                this.pq.add(this.times[i], this.nextId, i);
+                this.nextId++;
+            }
+        }
+    }
+
+    /**
+     * One VariateSource of a long level 5 run.
+     */
+    @State(Scope.Thread)
+    public static class VariateState {
+        @Param({"COMPATIBLE", "XOSHIRO", "COMPATIBLE_BLOCK", "XOSHIRO_BLOCK", "COMMON"})
+        public VariateType variateType;
+
+        private VariateSource rng;
+        private int customerId;
+
+        @Setup
+        public void setUp() {
+            this.rng = this.variateType.create(SEED, 0, ARRIVAL_RATE, SERVICE_RATE,
+                    RESTING_RATE);
+            this.customerId = 0;
+        }
+    }
+
+    /**
+     * MANY_SERVERS servers in random states, most of them busy.
+     */
+    @State(Scope.Thread)
+    public static class SelectState {
+        private Simulation simulation;
+        private double[] times;
+        private int next;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(SEED);
+            this.simulation = new Simulation(MANY_SERVERS, 0, MAX_QUEUE,
+                    SchedulerType.HEAP, null);
+            for (int serverId = 1; serverId <= MANY_SERVERS; serverId++) {
+                Server server = new Server(serverId, MAX_QUEUE)
+                    .updateTime(10.0 + random.nextDouble());
+                int queueSize = random.nextInt(MAX_QUEUE + 1);
+                for (int i = 0; i < queueSize; i++) {
+                    server.addCustomer(new Customer(serverId * MAX_QUEUE + i, 0.0));
+                }
+                this.simulation.updateServerList(server);
+            }
+            this.times = new double[INPUTS];
+            for (int i = 0; i < INPUTS; i++) {
+                this.times[i] = 10.0 + 1.1 * random.nextDouble();
+            }
+            this.next = 0;
+        }
+    }
+
+    /**
+     * SelfCheckoutServers sharing one queue.
+     */
+    @State(Scope.Thread)
+    public static class SelfCheckoutState {
+        private SharedQueue sharedQueue;
+        private SelfCheckoutServer[] servers;
+        private Customer[] customers;
+        private int next;
+
+        @Setup
+        public void setUp() {
+            this.sharedQueue = new SharedQueue(MAX_QUEUE);
+            this.servers = new SelfCheckoutServer[NUM_SELF_CHECKOUT];
+            for (int i = 0; i < NUM_SELF_CHECKOUT; i++) {
+                this.servers[i] = new SelfCheckoutServer(NUM_SERVERS + i + 1, this.sharedQueue);
+            }
+            this.customers = new Customer[INPUTS];
+            for (int i = 0; i < INPUTS; i++) {
+                this.customers[i] = new Customer(i + 1, (double) i);
+            }
+            this.next = 0;
+        }
+    }
+
+    /**
+     * Traced events of a level 5 like mix, in every printed state.
+     */
+    @State(Scope.Thread)
+    public static class TraceState {
+        private Event[] events;
+        private BufferedTraceSink out;
+        private int next;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(SEED);
+            SharedQueue sharedQueue = new SharedQueue(MAX_QUEUE);
+            Server[] servers = new Server[NUM_SERVERS + NUM_SELF_CHECKOUT];
+            for (int i = 0; i < servers.length; i++) {
+                servers[i] = (i < NUM_SERVERS)
+                    ? new Server(i + 1, MAX_QUEUE)
+                    : new SelfCheckoutServer(i + 1, sharedQueue);
+            }
+            EventState[] states = new EventState[] {
+                EventState.ARRIVE, EventState.SERVE, EventState.WAIT,
+                EventState.DONE, EventState.LEAVE
+            };
+            this.events = new Event[INPUTS];
+            double time = 0.0;
+            for (int i = 0; i < INPUTS; i++) {
+                time += random.nextDouble() / ARRIVAL_RATE;
+                Customer customer = (random.nextDouble() < PROB_GREEDY)
+                    ? new GreedyCustomer(i + 1, time) : new Customer(i + 1, time);
+                this.events[i] = new Event(customer, time,
+                        servers[random.nextInt(servers.length)], states[i % states.length]);
+            }
+            this.out = new BufferedTraceSink(OutputStream.nullOutputStream());
+            this.next = 0;
+        }
+    }
+
+    /**
+     * Polls the earliest event and adds an arrival a random time after it.
+     */
+    @Benchmark
+    public int eventQueueHold(EventQueueState s) {
+        Event event = s.pq.poll();
+        s.pq.add(new Event(new Customer(s.nextId, event.getTime()
+                + s.increments[s.nextId & (INPUTS - 1)])));
+        s.nextId++;
+        return event.getCustomer().getCustomerId();
+    }
+
+    /**
+     * Polls the earliest slot and adds it back a random time later.
+     */
+    @Benchmark
+    public int timeQueueHold(TimeQueueState s) {
+        int slot = s.pq.poll();
+        s.times[slot] += s.increments[s.nextId & (INPUTS - 1)];
+        s.pq.add(s.times[slot], s.nextId, slot);
+        s.nextId++;
+        return slot;
+    }
+
+    /**
+     * Variates of one customer, plus a rest period if the server rests.
+     */
+    @Benchmark
+    public double variates(VariateState s) {
+        s.customerId++;
+        int serverId = s.customerId % NUM_SERVERS + 1;
+        double sum = s.rng.genInterArrivalTime(s.customerId)
+            + s.rng.genCustomerType(s.customerId) + s.rng.genServiceTime(s.customerId);
+        if (s.rng.genRandomRest(serverId) < PROB_REST) {
+            sum += s.rng.genRestPeriod(serverId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Server selectServer(SelectState s) {
+        s.next = (s.next + 1) & (INPUTS - 1);
+        return s.simulation.selectServer(s.times[s.next]);
+    }
+
+    @Benchmark
+    public Server greedySelectServer(SelectState s) {
+        s.next = (s.next + 1) & (INPUTS - 1);
+        return s.simulation.greedySelectServer(s.times[s.next]);
+    }
+
+    /**
+     * Adds a customer, then takes the earliest one if the queue is full, else removes every
+     * other customer once served. the queue is emptied whenever the customers wrap around.
+     */
+    @Benchmark
+    public int selfCheckout(SelfCheckoutState s) {
+        s.next = (s.next + 1) & (INPUTS - 1);
+        if (s.next == 0) {
+            while (s.sharedQueue.size() > 0) {
+                s.sharedQueue.poll();
+            }
+        }
+        SelfCheckoutServer server = s.servers[s.next % NUM_SELF_CHECKOUT];
+        Customer customer = s.customers[s.next];
+        server.addCustomer(customer);
+        if (server.getQueueSize() == MAX_QUEUE) {
+            return server.getCustomer().getCustomerId();
+        } else if ((s.next & 1) == 0) {
+            server.serveCustomer(customer);
+        }
+        return 0;
+    }
+
+    @Benchmark
+    public String eventToString(TraceState s) {
+        s.next = (s.next + 1) & (INPUTS - 1);
+        return s.events[s.next].toString();
+    }
+
+    /**
+     * Formats the same trace lines as eventToString, the output discarded.
+     */
+    @Benchmark
+    public void bufferedTraceSink(TraceState s) {
+        s.next = (s.next + 1) & (INPUTS - 1);
+        Event event = s.events[s.next];
+        Server server = event.getServer();
+        s.out.write(event.getState(), event.getTime(), event.getCustomer().getCustomerId(),
+                event.getCustomer().isGreedy(), server.getServerId(), server.isSelfCheckout());
+    }
+}
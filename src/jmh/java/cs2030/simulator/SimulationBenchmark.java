@@ -0,0 +1,114 @@
+package cs2030.simulator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of full runs of every level, one operation being one run with tracing off.
+ * levels 1 to 4 replay inputs drawn once in setup, so that only the simulation is timed,
+ * and level 5 draws its own from variateType. run with -prof gc for the bytes per run.
+ * usage: java -jar target/benchmarks.jar SimulationBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationBenchmark {
+
+    private static final int SEED = 1;
+    private static final int NUM_SERVERS = 10;
+    private static final int NUM_SELF_CHECKOUT = 3;
+    private static final int MAX_QUEUE = 5;
+    private static final double ARRIVAL_RATE = 12.0;
+    private static final double SERVICE_RATE = 1.0;
+    private static final double RESTING_RATE = 0.1;
+    private static final double PROB_REST = 0.1;
+    private static final double PROB_GREEDY = 0.3;
+
+    @Param({"1000", "100000"})
+    public int numCustomers;
+
+    @Param({"OBJECT", "ARRAY"})
+    public EngineType engineType;
+
+    @Param({"HEAP"})
+    public SchedulerType schedulerType;
+
+    /**
+     * Variates of the level 5 runs only.
+     */
+    @Param({"COMPATIBLE"})
+    public VariateType variateType;
+
+    private Simulator simulator;
+    private DoubleColumn arrivals;
+    private DoubleColumn services;
+    private DoubleColumn rests;
+
+    /**
+     * Draws the level 1 to 4 inputs, at a load that keeps the queues busy.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        double[] arrivalTimes = new double[this.numCustomers];
+        double[] serviceTimes = new double[this.numCustomers];
+        double[] serverRestTimes = new double[this.numCustomers];
+        double time = 0.0;
+        for (int i = 0; i < this.numCustomers; i++) {
+            time += -Math.log(1.0 - random.nextDouble()) / (ARRIVAL_RATE / 2);
+            arrivalTimes[i] = time;
+            serviceTimes[i] = -Math.log(1.0 - random.nextDouble()) / SERVICE_RATE;
+            serverRestTimes[i] = (random.nextDouble() < PROB_REST)
+                ? -Math.log(1.0 - random.nextDouble()) / RESTING_RATE : 0.0;
+        }
+        this.arrivals = DoubleColumn.of(arrivalTimes);
+        this.services = DoubleColumn.of(serviceTimes);
+        this.rests = DoubleColumn.of(serverRestTimes);
+        this.simulator = new Simulator(NUM_SERVERS, MAX_QUEUE, this.schedulerType,
+                this.engineType);
+        this.simulator.setVariateType(this.variateType);
+    }
+
+    @Benchmark
+    public StatisticsAccumulator level1() {
+        return this.simulator.collect(0, this.arrivals, null, null, null, null);
+    }
+
+    @Benchmark
+    public StatisticsAccumulator level2() {
+        return this.simulator.collect(0, this.arrivals, this.services, null, null, null);
+    }
+
+    @Benchmark
+    public StatisticsAccumulator level3() {
+        return this.simulator.collect(0, this.arrivals, this.services, this.rests,
+                null, null);
+    }
+
+    @Benchmark
+    public StatisticsAccumulator level4() {
+        return this.simulator.collect(NUM_SELF_CHECKOUT, this.arrivals, this.services,
+                this.rests, null, null);
+    }
+
+    @Benchmark
+    public StatisticsAccumulator level5() {
+        return this.simulator.collect(SEED, NUM_SELF_CHECKOUT, this.numCustomers,
+                ARRIVAL_RATE, SERVICE_RATE, RESTING_RATE, PROB_REST, PROB_GREEDY, null, null);
+    }
+}
@@ -0,0 +1,20 @@
+import cs2030.simulator.InputReader;
+import cs2030.simulator.Simulator;
+
+/**
+ * External facing class that takes in inputs using an InputReader to generate simulation.
+ * Level 1
+ * run with --stats-only to print only the final Statistics
+ */
+class Main1 {
+    public static void main(String[] args) {
+        InputReader in = InputReader.standardInput();
+
+        int numServers = in.nextInt();
+        in.skipLine();
+        double[] arrivalTimes = in.remainingDoubles();
+        Simulator s = new Simulator(numServers, 1);
+        s.setTraceEnabled(!(args.length > 0 && args[0].equals("--stats-only")));
+        s.simulate(arrivalTimes);
+    }
+}
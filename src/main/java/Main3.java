@@ -0,0 +1,23 @@
+import cs2030.simulator.InputReader;
+import cs2030.simulator.Simulator;
+
+/**
+ * External facing class that takes in inputs using an InputReader to generate simulation.
+ * Level 3
+ * run with --stats-only to print only the final Statistics
+ */
+class Main3 {
+    public static void main(String[] args) {
+        InputReader in = InputReader.standardInput();
+
+        int numServers = in.nextInt();
+        int maxQueue = in.nextInt();
+        int numCustomers = in.nextInt();
+        in.skipLine();
+        double[][] customers = in.nextColumns(2, numCustomers);
+        double[] serverRestTimes = in.remainingDoubles();
+        Simulator s = new Simulator(numServers, maxQueue);
+        s.setTraceEnabled(!(args.length > 0 && args[0].equals("--stats-only")));
+        s.simulate(customers[0], customers[1], serverRestTimes);
+    }
+}
@@ -0,0 +1,30 @@
+import cs2030.simulator.InputReader;
+import cs2030.simulator.Simulator;
+
+/**
+ * External facing class that takes in inputs using an InputReader to generate simulation.
+ * Level 5
+ * run with --stats-only to print only the final Statistics
+ */
+class Main5 {
+    public static void main(String[] args) {
+        InputReader in = InputReader.standardInput();
+
+        int baseSeed = in.nextInt();
+        int numServers = in.nextInt();
+        int numSelfCheckoutServers = in.nextInt();
+        int maxQueue = in.nextInt();
+        int numCustomers = in.nextInt();
+
+        Double arrivalRate = in.nextDouble();
+        Double serviceRate = in.nextDouble();
+        Double restingRate = in.nextDouble();
+        Double probRest = in.nextDouble();
+        Double probGreedy = in.nextDouble();
+
+        Simulator s = new Simulator(numServers, maxQueue);
+        s.setTraceEnabled(!(args.length > 0 && args[0].equals("--stats-only")));
+        s.simulate(baseSeed, numSelfCheckoutServers, numCustomers,
+                arrivalRate, serviceRate, restingRate, probRest, probGreedy);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+import cs2030.simulator.ReplicationRunner;
+import cs2030.simulator.Simulator;
+import cs2030.simulator.VariateType;
+import java.util.Scanner;
+
+/**
+ * External facing class that takes in the inputs of Main5, followed by a second number
+ * of servers and of self-checkout servers and the number of replications, and prints
+ * estimates of the first staffing minus the second.
+ * both staffings run on common random numbers with antithetic replications, so every
+ * pair of runs meets the same customers.
+ * Level 5, compared
+ */
+class Main5Compare {
+    public static void main(String[] args) {
+        Scanner sc = new Scanner(System.in);
+
+        int baseSeed = sc.nextInt();
+        int numServers = sc.nextInt();
+        int numSelfCheckoutServers = sc.nextInt();
+        int maxQueue = sc.nextInt();
+        int numCustomers = sc.nextInt();
+
+        Double arrivalRate = sc.nextDouble();
+        Double serviceRate = sc.nextDouble();
+        Double restingRate = sc.nextDouble();
+        Double probRest = sc.nextDouble();
+        Double probGreedy = sc.nextDouble();
+
+        int otherNumServers = sc.nextInt();
+        int otherNumSelfCheckoutServers = sc.nextInt();
+        int numReplications = sc.nextInt();
+
+        ReplicationRunner first = runner(numServers, numSelfCheckoutServers, maxQueue,
+                numCustomers, arrivalRate, serviceRate, restingRate, probRest, probGreedy);
+        ReplicationRunner second = runner(otherNumServers, otherNumSelfCheckoutServers,
+                maxQueue, numCustomers, arrivalRate, serviceRate, restingRate, probRest,
+                probGreedy);
+        System.out.println(first.compare(second, baseSeed, numReplications));
+    }
+
+    private static ReplicationRunner runner(int numServers, int numSelfCheckoutServers,
+                                            int maxQueue, int numCustomers,
+                                            double arrivalRate, double serviceRate,
+                                            double restingRate, double probRest,
+                                            double probGreedy) {
+        Simulator s = new Simulator(numServers, maxQueue);
+        s.setVariateType(VariateType.COMMON);
+        ReplicationRunner runner = new ReplicationRunner(s, numSelfCheckoutServers,
+                numCustomers, arrivalRate, serviceRate, restingRate, probRest, probGreedy);
+        runner.setAntithetic(true);
+        return runner;
+    }
+}
@@ -0,0 +1,36 @@
+import cs2030.simulator.ReplicationRunner;
+import cs2030.simulator.Simulator;
+import java.util.Scanner;
+
+/**
+ * External facing class that takes in the inputs of Main5, followed by the
+ * maximum number of replications and the target half-width of the 95% confidence
+ * interval of the average waiting time, and prints estimates over the replications.
+ * Level 5, replicated
+ */
+class Main5Replications {
+    public static void main(String[] args) {
+        Scanner sc = new Scanner(System.in);
+
+        int baseSeed = sc.nextInt();
+        int numServers = sc.nextInt();
+        int numSelfCheckoutServers = sc.nextInt();
+        int maxQueue = sc.nextInt();
+        int numCustomers = sc.nextInt();
+
+        Double arrivalRate = sc.nextDouble();
+        Double serviceRate = sc.nextDouble();
+        Double restingRate = sc.nextDouble();
+        Double probRest = sc.nextDouble();
+        Double probGreedy = sc.nextDouble();
+
+        int maxReplications = sc.nextInt();
+        Double targetHalfWidth = sc.nextDouble();
+
+        Simulator s = new Simulator(numServers, maxQueue);
+        ReplicationRunner runner = new ReplicationRunner(s, numSelfCheckoutServers,
+                numCustomers, arrivalRate, serviceRate, restingRate, probRest, probGreedy);
+        System.out.println(runner.runUntil(baseSeed, Math.min(10, maxReplications),
+                maxReplications, targetHalfWidth));
+    }
+}
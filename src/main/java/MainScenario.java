@@ -0,0 +1,19 @@
+import cs2030.simulator.ScenarioFile;
+import cs2030.simulator.Simulator;
+import java.nio.file.Paths;
+
+/**
+ * External facing class that replays a binary scenario of levels 1 to 4.
+ * Scenarios are converted from the text input of Main1 to Main4 with
+ * java cs2030.simulator.ScenarioConverter, and memory-mapped when replayed.
+ * usage: java MainScenario scenarioFile [--stats-only]
+ */
+class MainScenario {
+    public static void main(String[] args) {
+        ScenarioFile scenario = ScenarioFile.map(Paths.get(args[0]));
+
+        Simulator s = new Simulator(scenario.getNumServers(), scenario.getMaxQueue());
+        s.setTraceEnabled(!(args.length > 1 && args[1].equals("--stats-only")));
+        s.simulate(scenario);
+    }
+}
@@ -0,0 +1,53 @@
+import cs2030.simulator.ParameterSweep;
+import cs2030.simulator.ReplicationStatistics;
+import cs2030.simulator.SweepPoint;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * External facing class that takes in a grid of level 5 configurations using a scanner
+ * and prints a table of estimates for each of them.
+ * Input is baseSeed, numCustomers, numReplications and restingRate, then for each of
+ * numServers, numSelfCheckoutServers, maxQueue, arrivalRate, serviceRate, probRest and
+ * probGreedy in turn, the number of values followed by the values.
+ */
+class MainSweep {
+    public static void main(String[] args) {
+        Scanner sc = new Scanner(System.in);
+
+        int baseSeed = sc.nextInt();
+        int numCustomers = sc.nextInt();
+        int numReplications = sc.nextInt();
+        double restingRate = sc.nextDouble();
+
+        int[] numServers = readInts(sc);
+        int[] numSelfCheckoutServers = readInts(sc);
+        int[] maxQueue = readInts(sc);
+        double[] arrivalRate = readDoubles(sc);
+        double[] serviceRate = readDoubles(sc);
+        double[] probRest = readDoubles(sc);
+        double[] probGreedy = readDoubles(sc);
+
+        List<SweepPoint> points = ParameterSweep.grid(numServers, numSelfCheckoutServers,
+                maxQueue, arrivalRate, serviceRate, restingRate, probRest, probGreedy);
+        ParameterSweep sweep = new ParameterSweep(baseSeed, numCustomers, numReplications);
+        List<ReplicationStatistics> summaries = sweep.run(points);
+        ParameterSweep.printTable(points, summaries, System.out);
+    }
+
+    private static int[] readInts(Scanner sc) {
+        int[] values = new int[sc.nextInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sc.nextInt();
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(Scanner sc) {
+        double[] values = new double[sc.nextInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sc.nextDouble();
+        }
+        return values;
+    }
+}
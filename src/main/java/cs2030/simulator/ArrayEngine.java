@@ -0,0 +1,435 @@
+package cs2030.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Simulation engine keeping all server, customer and event state in primitive arrays.
+ * Servers are slots serverId - 1, each with its next available time and an IntRing of
+ * waiting customer slots, plus one IntRing for the queue shared by SelfCheckoutServers.
+ * Customers and events are records in pooled parallel arrays, recycled when done with,
+ * so once the pools have grown to the working size no event allocates.
+ * Produces the same events as the Server/Event object model in Simulation, updating a
+ * server's next available time on SERVE and SERVERREST only, as Server.updateTime is.
+ */
+class ArrayEngine {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int NONE = IntRing.NONE;
+
+    private final int numRegular;
+    private final int numSelfCheckout;
+    private final int maxQueue;
+    private final TimeQueue queue;
+    private final ServerIndex index;
+
+    /**
+     * Time series of the run, or null to not record one.
+     */
+    private TimeSeriesRecorder recorder;
+
+    /*
+     * Server state, by slot.
+     */
+    private final double[] nextAvailableTime;
+    private final IntRing[] queues;
+    private final IntRing sharedQueue;
+
+    /*
+     * Customer records.
+     */
+    private int[] customerIds;
+    private double[] arrivalTimes;
+    private double[] serviceTimes;
+    private boolean[] greedy;
+    private int[] freeCustomers;
+    private int freeCustomerCount;
+    private int usedCustomers;
+
+    /*
+     * Event records.
+     */
+    private double[] eventTimes;
+    private int[] eventCustomers;
+    private int[] eventServers;
+    private EventState[] eventStates;
+    private int[] freeEvents;
+    private int freeEventCount;
+    private int usedEvents;
+
+    /**
+     * Constructor for idle servers with empty queues.
+     * @param numRegular number of regular servers
+     * @param numSelfCheckout number of SelfCheckoutServers
+     * @param maxQueue maximum queue length of each server, and of the shared queue
+     * @param queue empty TimeQueue to schedule events on
+     */
+    ArrayEngine(int numRegular, int numSelfCheckout, int maxQueue, TimeQueue queue) {
+        this(numRegular, numSelfCheckout, maxQueue, queue,
+                Math.max(MIN_CAPACITY, 2 * (numRegular + numSelfCheckout) + 1));
+    }
+
+    /**
+     * Constructor for idle servers with empty queues, taking over the TimeQueue and the
+     * grown customer and event pools of a finished engine, which must not be used again.
+     * Lets runs of different server counts on one thread reuse the same buffers.
+     * @param numRegular number of regular servers
+     * @param numSelfCheckout number of SelfCheckoutServers
+     * @param maxQueue maximum queue length of each server, and of the shared queue
+     * @param previous engine whose run has finished
+     */
+    ArrayEngine(int numRegular, int numSelfCheckout, int maxQueue, ArrayEngine previous) {
+        this(numRegular, numSelfCheckout, maxQueue, previous.queue, 0);
+        if (!this.queue.isEmpty()) {
+            throw new IllegalStateException("previous engine has not finished its run");
+        }
+        this.customerIds = previous.customerIds;
+        this.arrivalTimes = previous.arrivalTimes;
+        this.serviceTimes = previous.serviceTimes;
+        this.greedy = previous.greedy;
+        this.freeCustomers = previous.freeCustomers;
+        this.eventTimes = previous.eventTimes;
+        this.eventCustomers = previous.eventCustomers;
+        this.eventServers = previous.eventServers;
+        this.eventStates = previous.eventStates;
+        this.freeEvents = previous.freeEvents;
+    }
+
+    private ArrayEngine(int numRegular, int numSelfCheckout, int maxQueue, TimeQueue queue,
+                        int capacity) {
+        int numServers = numRegular + numSelfCheckout;
+        this.numRegular = numRegular;
+        this.numSelfCheckout = numSelfCheckout;
+        this.maxQueue = maxQueue;
+        this.queue = queue;
+        this.index = new ServerIndex(numRegular, numSelfCheckout, maxQueue);
+        this.nextAvailableTime = new double[numServers];
+        this.queues = new IntRing[numRegular];
+        for (int slot = 0; slot < numRegular; slot++) {
+            this.queues[slot] = new IntRing(maxQueue);
+        }
+        this.sharedQueue = new IntRing(maxQueue);
+
+        this.customerIds = new int[capacity];
+        this.arrivalTimes = new double[capacity];
+        this.serviceTimes = new double[capacity];
+        this.greedy = new boolean[capacity];
+        this.freeCustomers = new int[capacity];
+        this.eventTimes = new double[capacity];
+        this.eventCustomers = new int[capacity];
+        this.eventServers = new int[capacity];
+        this.eventStates = new EventState[capacity];
+        this.freeEvents = new int[capacity];
+    }
+
+    /**
+     * Records a time series of the run.
+     * @param recorder empty TimeSeriesRecorder sized for these servers
+     */
+    void setRecorder(TimeSeriesRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Runs the simulation until no events are left.
+     * servers rest per serverRestTimes (levels 3 and 4) or per rng (level 5), or never
+     * @param arrivals arriving customers
+     * @param serverRestTimes rest times consumed one per DONE event, or null
+     * @param rng VariateSource for service times and rests, or null
+     * @param probRest probability of a regular server resting after DONE, with rng
+     * @param out TraceSink to write events to, or null to skip the trace
+     * @return StatisticsAccumulator of the run
+     */
+    StatisticsAccumulator run(ArrivalSource arrivals, DoubleColumn serverRestTimes,
+                   VariateSource rng, double probRest, TraceSink out) {
+        StatisticsAccumulator stats = new StatisticsAccumulator(this.nextAvailableTime.length);
+        int restIndex = -1;
+
+        if (arrivals.isOrdered()) {
+            scheduleArrival(arrivals);
+        } else {
+            while (arrivals.hasNext()) {
+                scheduleArrival(arrivals);
+            }
+        }
+
+        while (!this.queue.isEmpty()) {
+            int event = this.queue.poll();
+            EventState state = this.eventStates[event];
+            double time = this.eventTimes[event];
+            int customer = this.eventCustomers[event];
+            int server = this.eventServers[event];
+            releaseEvent(event);
+            if (this.recorder != null) {
+                record(state, time, customer, server);
+            }
+
+            if (out != null && state != EventState.SERVERREST
+                    && state != EventState.SERVERBACK) {
+                trace(out, state, time, customer, server);
+            }
+
+            switch (state) {
+                case ARRIVE:
+                    scheduleArrival(arrivals);
+                    arrive(time, customer);
+                    break;
+                case SERVE: {
+                    double serviceTime = (rng == null) ? this.serviceTimes[customer]
+                        : rng.genServiceTime(this.customerIds[customer]);
+                    double endTime = time + serviceTime;
+                    setNextAvailableTime(server, endTime);
+                    schedule(EventState.DONE, endTime, customer, server);
+                    stats.addServed(time - this.arrivalTimes[customer], server + 1, time,
+                            endTime, this.greedy[customer]);
+                    break;
+                }
+                case DONE: {
+                    boolean rest;
+                    if (rng != null) {
+                        rest = !isSelfCheckout(server)
+                            && rng.genRandomRest(server + 1) < probRest;
+                    } else if (serverRestTimes != null) {
+                        restIndex += 1;
+                        rest = restIndex < serverRestTimes.size();
+                    } else {
+                        rest = false;
+                    }
+                    if (rest) {
+                        schedule(EventState.SERVERREST, time, customer, server);
+                    } else {
+                        releaseCustomer(customer);
+                        serveNext(time, server);
+                    }
+                    break;
+                }
+                case WAIT:
+                    if (!enqueue(server, customer)) {
+                        releaseCustomer(customer);
+                    }
+                    updateIndex(server);
+                    break;
+                case LEAVE:
+                    stats.addLeft(time, this.greedy[customer]);
+                    releaseCustomer(customer);
+                    break;
+                case SERVERREST: {
+                    double addedTime = 0.0;
+                    if (!isSelfCheckout(server)) {
+                        addedTime = (rng == null)
+                            ? serverRestTimes.get(restIndex) : rng.genRestPeriod(server + 1);
+                    } else if (rng == null) {
+                        restIndex -= 1;
+                    }
+                    double endRestTime = time + addedTime;
+                    setNextAvailableTime(server, endRestTime);
+                    schedule(EventState.SERVERBACK, endRestTime, customer, server);
+                    break;
+                }
+                case SERVERBACK:
+                    releaseCustomer(customer);
+                    serveNext(time, server);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Moves the TimeSeriesRecorder to an event before it is handled, and counts it or
+     * updates the rest state.
+     * waiting time of a SERVE only depends on the customer, so it can be counted up front
+     */
+    private void record(EventState state, double time, int customer, int server) {
+        this.recorder.advance(time);
+        switch (state) {
+            case ARRIVE:
+                this.recorder.arrive();
+                break;
+            case SERVE:
+                this.recorder.serve(time - this.arrivalTimes[customer]);
+                break;
+            case LEAVE:
+                this.recorder.leave();
+                break;
+            case SERVERREST:
+                this.recorder.setResting(server + 1, true);
+                break;
+            case SERVERBACK:
+                this.recorder.setResting(server + 1, false);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Picks a server for an arriving customer, as Simulation.arriveHandler does.
+     */
+    private void arrive(double time, int customer) {
+        int server = this.greedy[customer]
+            ? this.index.greedySelect(time) : this.index.select(time);
+        if (server == NONE) {
+            schedule(EventState.LEAVE, time, customer, NONE);
+            return;
+        }
+        int waiting = queueOf(server).size();
+        if (waiting < this.maxQueue && !(time < this.nextAvailableTime[server])) {
+            schedule(EventState.SERVE, time, customer, server);
+        } else {
+            schedule(EventState.WAIT, time, customer, server);
+        }
+    }
+
+    /**
+     * Takes the next waiting customer off the server queue, as Simulation.serveNext does
+     * after DONE and SERVERBACK.
+     */
+    private void serveNext(double time, int server) {
+        int next = dequeue(server);
+        updateIndex(server);
+        if (next != NONE) {
+            schedule(EventState.SERVE, time, next, server);
+        }
+    }
+
+    private boolean isSelfCheckout(int server) {
+        return server >= this.numRegular;
+    }
+
+    private void setNextAvailableTime(int server, double time) {
+        this.nextAvailableTime[server] = time;
+        updateIndex(server);
+    }
+
+    /**
+     * Brings the ServerIndex up to date with a server's time and queue length.
+     */
+    private void updateIndex(int server) {
+        double time = this.nextAvailableTime[server];
+        if (isSelfCheckout(server)) {
+            this.index.updateSelfCheckout(server, time);
+        } else {
+            this.index.updateRegular(server, time, this.queues[server].size());
+        }
+    }
+
+    /**
+     * Queue customers wait in for a server, the shared one for SelfCheckoutServers.
+     */
+    private IntRing queueOf(int server) {
+        return isSelfCheckout(server) ? this.sharedQueue : this.queues[server];
+    }
+
+    /**
+     * Adds customer to the server queue if there is space.
+     * @return whether the customer was added
+     */
+    private boolean enqueue(int server, int customer) {
+        IntRing queue = queueOf(server);
+        if (!queue.offer(customer)) {
+            return false;
+        }
+        if (isSelfCheckout(server)) {
+            this.index.updateSharedQueue(queue.size());
+        }
+        if (this.recorder != null) {
+            this.recorder.setQueueSize(server + 1, queue.size());
+        }
+        return true;
+    }
+
+    /**
+     * Removes the first waiting customer from the server queue.
+     * @return customer slot, or NONE if no customer is waiting
+     */
+    private int dequeue(int server) {
+        IntRing queue = queueOf(server);
+        int customer = queue.poll();
+        if (customer != NONE && isSelfCheckout(server)) {
+            this.index.updateSharedQueue(queue.size());
+        }
+        if (customer != NONE && this.recorder != null) {
+            this.recorder.setQueueSize(server + 1, queue.size());
+        }
+        return customer;
+    }
+
+    private void scheduleArrival(ArrivalSource arrivals) {
+        if (!arrivals.hasNext()) {
+            return;
+        }
+        arrivals.advance();
+        int customer;
+        if (this.freeCustomerCount > 0) {
+            this.freeCustomerCount -= 1;
+            customer = this.freeCustomers[this.freeCustomerCount];
+        } else {
+            if (this.usedCustomers == this.customerIds.length) {
+                int capacity = this.customerIds.length * 2;
+                this.customerIds = Arrays.copyOf(this.customerIds, capacity);
+                this.arrivalTimes = Arrays.copyOf(this.arrivalTimes, capacity);
+                this.serviceTimes = Arrays.copyOf(this.serviceTimes, capacity);
+                this.greedy = Arrays.copyOf(this.greedy, capacity);
+                this.freeCustomers = Arrays.copyOf(this.freeCustomers, capacity);
+            }
+            customer = this.usedCustomers;
+            this.usedCustomers += 1;
+        }
+        this.customerIds[customer] = arrivals.getCustomerId();
+        this.arrivalTimes[customer] = arrivals.getArrivalTime();
+        this.serviceTimes[customer] = arrivals.getServiceTime();
+        this.greedy[customer] = arrivals.isGreedy();
+        schedule(EventState.ARRIVE, this.arrivalTimes[customer], customer, NONE);
+    }
+
+    private void releaseCustomer(int customer) {
+        this.freeCustomers[this.freeCustomerCount] = customer;
+        this.freeCustomerCount += 1;
+    }
+
+    private void schedule(EventState state, double time, int customer, int server) {
+        int event;
+        if (this.freeEventCount > 0) {
+            this.freeEventCount -= 1;
+            event = this.freeEvents[this.freeEventCount];
+        } else {
+            if (this.usedEvents == this.eventTimes.length) {
+                int capacity = this.eventTimes.length * 2;
+                this.eventTimes = Arrays.copyOf(this.eventTimes, capacity);
+                this.eventCustomers = Arrays.copyOf(this.eventCustomers, capacity);
+                this.eventServers = Arrays.copyOf(this.eventServers, capacity);
+                this.eventStates = Arrays.copyOf(this.eventStates, capacity);
+                this.freeEvents = Arrays.copyOf(this.freeEvents, capacity);
+            }
+            event = this.usedEvents;
+            this.usedEvents += 1;
+        }
+        this.eventStates[event] = state;
+        this.eventTimes[event] = time;
+        this.eventCustomers[event] = customer;
+        this.eventServers[event] = server;
+        this.queue.add(time, this.customerIds[customer], event);
+    }
+
+    private void releaseEvent(int event) {
+        this.freeEvents[this.freeEventCount] = event;
+        this.freeEventCount += 1;
+    }
+
+    /**
+     * Writes an event to out as the object model shows it, WAIT at a SelfCheckoutServer
+     * being shown at the first one.
+     */
+    private void trace(TraceSink out, EventState state, double time, int customer,
+                       int server) {
+        int serverId = TraceSink.NO_SERVER;
+        if (server != NONE) {
+            serverId = (isSelfCheckout(server) && state == EventState.WAIT)
+                ? this.numRegular + 1 : server + 1;
+        }
+        out.write(state, time, this.customerIds[customer], this.greedy[customer], serverId,
+                server != NONE && isSelfCheckout(server));
+    }
+}
@@ -0,0 +1,48 @@
+package cs2030.simulator;
+
+/**
+ * Stream of arriving customers, in ascending customer ID.
+ * Simulator pulls the next customer only when the previous ARRIVE event is polled,
+ * so the EventQueue holds at most one pending ARRIVE event.
+ * Customers can be read either as Customer objects through next, or as primitives
+ * through advance and the getters, which allocate nothing.
+ */
+interface ArrivalSource {
+
+    boolean hasNext();
+
+    /**
+     * Moves on to the next customer, whose attributes the getters then return.
+     */
+    void advance();
+
+    int getCustomerId();
+
+    double getArrivalTime();
+
+    double getServiceTime();
+
+    boolean isGreedy();
+
+    /**
+     * Whether arrival times are known to be non-decreasing.
+     * lazy generation only keeps the event order when they are, otherwise all
+     * arrivals have to be loaded up front
+     * @return true if arrivals can be pulled one at a time
+     */
+    boolean isOrdered();
+
+    /**
+     * Generates the next customer.
+     * @return next Customer, or GreedyCustomer, with the next customer ID
+     */
+    default Customer next() {
+        this.advance();
+        if (this.isGreedy()) {
+            return new GreedyCustomer(this.getCustomerId(), this.getArrivalTime());
+        } else {
+            return new Customer(this.getCustomerId(), this.getArrivalTime(),
+                    this.getServiceTime());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package cs2030.simulator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * TraceSink writing each event as a fixed-width EventLog record into a file.
+ * Records are collected in one direct buffer of BUFFER_RECORDS records and written through
+ * the FileChannel whenever it fills, so the file only ever holds the records written and
+ * nothing is mapped that would have to be unmapped before the file is closed.
+ * The record count in the header is written on flush.
+ */
+class BinaryTraceSink implements TraceSink {
+
+    /**
+     * Records buffered between writes to the channel.
+     */
+    static final int BUFFER_RECORDS = 1 << 14;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long count;
+
+    /**
+     * Constructor creating or replacing the log file.
+     * @param path file to write the log to
+     */
+    BinaryTraceSink(Path path) {
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(EventLog.HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(EventLog.MAGIC).putShort(EventLog.VERSION)
+                .putShort((short) EventLog.RECORD_SIZE).putLong(0L).flip();
+            while (header.hasRemaining()) {
+                this.channel.write(header);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * EventLog.RECORD_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        this.count = 0;
+    }
+
+    @Override
+    public void write(EventState state, double time, int customerId, boolean greedy,
+                      int serverId, boolean selfCheckout) {
+        if (!this.buffer.hasRemaining()) {
+            drain();
+        }
+        int flags = (greedy ? EventLog.GREEDY_FLAG : 0)
+            | (selfCheckout ? EventLog.SELF_CHECKOUT_FLAG : 0);
+        this.buffer.putDouble(time)
+            .putInt(customerId)
+            .putInt(serverId)
+            .put((byte) state.ordinal())
+            .put((byte) flags);
+        this.count += 1;
+    }
+
+    /**
+     * Appends the buffered records to the file.
+     */
+    private void drain() {
+        this.buffer.flip();
+        try {
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.buffer.clear();
+    }
+
+    long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Writes the buffered records and the record count into the header, and forces them out.
+     */
+    @Override
+    public void flush() {
+        drain();
+        try {
+            ByteBuffer countBytes = ByteBuffer.allocate(Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).putLong(this.count);
+            countBytes.flip();
+            while (countBytes.hasRemaining()) {
+                this.channel.write(countBytes,
+                        EventLog.COUNT_OFFSET + countBytes.position());
+            }
+            this.channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes and closes the file.
+     */
+    @Override
+    public void close() {
+        flush();
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
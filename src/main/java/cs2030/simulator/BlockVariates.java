@@ -0,0 +1,151 @@
+package cs2030.simulator;
+
+/**
+ * VariateSource handing out variates from blocks filled in bulk, one block per stream.
+ * each block is filled by one loop drawing the uniforms and a second one transforming
+ * them, so the generator state stays in registers and the logarithms run back to back.
+ * the streams, their seeding and the transforms are those of CompatibleVariates or
+ * XoshiroVariates, so a run draws exactly the same variates in the same order as there.
+ * blocks are filled on first use, and a stream that is never drawn from is never filled.
+ */
+class BlockVariates implements VariateSource {
+
+    /**
+     * Variates per block, five blocks of doubles fitting well within the L1 cache.
+     */
+    static final int BLOCK_SIZE = 256;
+
+    private final Block arrival;
+    private final Block service;
+    private final Block rest;
+    private final Block restPeriod;
+    private final Block customerType;
+
+    private BlockVariates(Block arrival, Block service, Block rest, Block restPeriod,
+                          Block customerType) {
+        this.arrival = arrival;
+        this.service = service;
+        this.rest = rest;
+        this.restPeriod = restPeriod;
+        this.customerType = customerType;
+    }
+
+    /**
+     * Blocks of the CompatibleVariates streams.
+     * @param baseSeed seed of the first stream
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @return BlockVariates drawing as new CompatibleVariates(baseSeed, ...)
+     */
+    static BlockVariates compatible(int baseSeed, double arrivalRate, double serviceRate,
+                                    double restingRate) {
+        return new BlockVariates(
+                Block.exponential(new Lcg48(baseSeed), arrivalRate, false),
+                Block.exponential(new Lcg48(baseSeed + 1), serviceRate, false),
+                Block.uniform(new Lcg48(baseSeed + 2)),
+                Block.exponential(new Lcg48(baseSeed + 3), restingRate, false),
+                Block.uniform(new Lcg48(baseSeed + 4)));
+    }
+
+    /**
+     * Blocks of the XoshiroVariates streams.
+     * @param baseSeed seed of replication 0
+     * @param replication index of the replication
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @return BlockVariates drawing as new XoshiroVariates(baseSeed, replication, ...)
+     */
+    static BlockVariates xoshiro(int baseSeed, int replication, double arrivalRate,
+                                 double serviceRate, double restingRate) {
+        Xoshiro256[] streams = Xoshiro256.streams(baseSeed, replication,
+                XoshiroVariates.NUM_STREAMS);
+        return new BlockVariates(
+                Block.exponential(streams[0], arrivalRate, true),
+                Block.exponential(streams[1], serviceRate, true),
+                Block.uniform(streams[2]),
+                Block.exponential(streams[3], restingRate, true),
+                Block.uniform(streams[4]));
+    }
+
+    @Override
+    public double genInterArrivalTime(int customerId) {
+        return this.arrival.next();
+    }
+
+    @Override
+    public double genServiceTime(int customerId) {
+        return this.service.next();
+    }
+
+    @Override
+    public double genRandomRest(int serverId) {
+        return this.rest.next();
+    }
+
+    @Override
+    public double genRestPeriod(int serverId) {
+        return this.restPeriod.next();
+    }
+
+    @Override
+    public double genCustomerType(int customerId) {
+        return this.customerType.next();
+    }
+
+    /**
+     * Block of one stream, uniform or exponential.
+     * exponential blocks take -log(u) / rate, or -log(1 - u) / rate if complement is set.
+     */
+    private static final class Block {
+        private final UniformStream stream;
+        private final boolean exponential;
+        private final boolean complement;
+        private final double rate;
+        private final double[] values;
+        private int next;
+
+        private Block(UniformStream stream, boolean exponential, boolean complement,
+                      double rate) {
+            this.stream = stream;
+            this.exponential = exponential;
+            this.complement = complement;
+            this.rate = rate;
+            this.values = new double[BLOCK_SIZE];
+            this.next = BLOCK_SIZE;
+        }
+
+        static Block uniform(UniformStream stream) {
+            return new Block(stream, false, false, 0.0);
+        }
+
+        static Block exponential(UniformStream stream, double rate, boolean complement) {
+            return new Block(stream, true, complement, rate);
+        }
+
+        double next() {
+            if (this.next == BLOCK_SIZE) {
+                fill();
+            }
+            double value = this.values[this.next];
+            this.next += 1;
+            return value;
+        }
+
+        private void fill() {
+            double[] values = this.values;
+            this.stream.nextDoubles(values);
+            if (this.complement) {
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    values[i] = -Math.log(1.0 - values[i]) / this.rate;
+                }
+            } else if (this.exponential) {
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    values[i] = -Math.log(values[i]) / this.rate;
+                }
+            }
+            this.next = 0;
+        }
+    }
+}
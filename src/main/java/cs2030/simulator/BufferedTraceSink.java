@@ -0,0 +1,241 @@
+package cs2030.simulator;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * TraceSink formatting events straight into a reusable byte buffer, written out to a
+ * channel when full or flushed.
+ * Times are formatted by hand to 3 decimals, rounding half up like String.format, and
+ * only the rare values too close to a rounding tie for double arithmetic to settle, or
+ * too large, go through String.format. The text is the same as PrintTraceSink's.
+ */
+class BufferedTraceSink implements TraceSink {
+
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * Longest line of the fast path: two longs, a padded time and the longest text.
+     */
+    private static final int MAX_LINE = 128;
+
+    /**
+     * Times from this on go through String.format, as thousandths no longer fit a long
+     * with spare precision.
+     */
+    private static final double MAX_FAST_TIME = 1e15;
+
+    private static final byte[] ARRIVES = ascii(" arrives");
+    private static final byte[] SERVES_BY = ascii(" serves by ");
+    private static final byte[] WAITS_AT = ascii(" waits at ");
+    private static final byte[] LEAVES = ascii(" leaves");
+    private static final byte[] DONE_SERVING_BY = ascii(" done serving by ");
+    private static final byte[] SERVER_REST = ascii("SERVER REST");
+    private static final byte[] GREEDY = ascii("(greedy)");
+    private static final byte[] SERVER = ascii("server ");
+    private static final byte[] SELF_CHECK = ascii("self-check ");
+
+    private final WritableByteChannel channel;
+    private final byte[] buffer;
+    private final ByteBuffer view;
+    private final byte[] lineSeparator;
+    private int position;
+
+    /**
+     * Constructor writing to a channel.
+     * @param channel channel the trace is written to
+     * @param capacity size of the buffer in bytes
+     */
+    BufferedTraceSink(WritableByteChannel channel, int capacity) {
+        this.channel = channel;
+        this.buffer = new byte[Math.max(capacity, 2 * MAX_LINE)];
+        this.view = ByteBuffer.wrap(this.buffer);
+        this.lineSeparator = ascii(System.lineSeparator());
+        this.position = 0;
+    }
+
+    /**
+     * Constructor writing to an OutputStream.
+     * @param out stream the trace is written to
+     */
+    BufferedTraceSink(OutputStream out) {
+        this(Channels.newChannel(out), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * TraceSink for standard output, writing to its FileChannel when the default locale
+     * formats numbers with ASCII digits and a '.' separator, else a PrintTraceSink.
+     * @return new TraceSink
+     */
+    static TraceSink standardOutput() {
+        if (!isAsciiLocale()) {
+            return new PrintTraceSink(System.out);
+        }
+        System.out.flush();
+        return new BufferedTraceSink(new FileOutputStream(FileDescriptor.out).getChannel(),
+                DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Whether String.format in the default locale writes numbers as this class does.
+     * @return true if digits are ASCII and the decimal separator is '.'
+     */
+    static boolean isAsciiLocale() {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(
+                Locale.getDefault(Locale.Category.FORMAT));
+        return symbols.getZeroDigit() == '0' && symbols.getDecimalSeparator() == '.';
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public void write(EventState state, double time, int customerId, boolean greedy,
+                      int serverId, boolean selfCheckout) {
+        if (this.position > this.buffer.length - MAX_LINE) {
+            drain();
+        }
+        if (state != EventState.ARRIVE && state != EventState.SERVE
+                && state != EventState.WAIT && state != EventState.LEAVE
+                && state != EventState.DONE) {
+            put(SERVER_REST);
+            put(this.lineSeparator);
+            return;
+        }
+        putTime(time);
+        this.buffer[this.position++] = ' ';
+        putLong(customerId);
+        if (greedy) {
+            put(GREEDY);
+        }
+        switch (state) {
+            case ARRIVE:
+                put(ARRIVES);
+                break;
+            case SERVE:
+                put(SERVES_BY);
+                putServer(serverId, selfCheckout);
+                break;
+            case WAIT:
+                put(WAITS_AT);
+                putServer(serverId, selfCheckout);
+                break;
+            case LEAVE:
+                put(LEAVES);
+                break;
+            default:
+                put(DONE_SERVING_BY);
+                putServer(serverId, selfCheckout);
+                break;
+        }
+        put(this.lineSeparator);
+    }
+
+    @Override
+    public void flush() {
+        drain();
+    }
+
+    private void put(byte[] bytes) {
+        System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+        this.position += bytes.length;
+    }
+
+    private void putServer(int serverId, boolean selfCheckout) {
+        put(selfCheckout ? SELF_CHECK : SERVER);
+        putLong(serverId);
+    }
+
+    /**
+     * Writes a value as %d does.
+     */
+    private void putLong(long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                putFormatted(Long.toString(value));
+                return;
+            }
+            this.buffer[this.position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits += 1;
+        }
+        int end = this.position + digits;
+        for (int i = end - 1; i >= this.position; i--) {
+            this.buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        this.position = end;
+    }
+
+    /**
+     * Writes a time as %.3f does.
+     * String.format rounds half up the shortest decimal that reads back as the double, which
+     * is within 1.5 ulps of the computed thousandths, so only fractions that close to a
+     * half can round differently and take the slow path, as do -0.0, printed -0.000, and NaN.
+     */
+    private void putTime(double time) {
+        if (!(Double.doubleToRawLongBits(time) >= 0 && time < MAX_FAST_TIME)) {
+            putFormatted(String.format("%.3f", time));
+            return;
+        }
+        double thousandths = time * 1000.0;
+        double floor = Math.floor(thousandths);
+        double fraction = thousandths - floor;
+        if (Math.abs(fraction - 0.5) <= 4 * Math.ulp(thousandths)) {
+            putFormatted(String.format("%.3f", time));
+            return;
+        }
+        long rounded = (long) floor + ((fraction > 0.5) ? 1 : 0);
+        putLong(rounded / 1000);
+        int decimals = (int) (rounded % 1000);
+        this.buffer[this.position++] = '.';
+        this.buffer[this.position++] = (byte) ('0' + decimals / 100);
+        this.buffer[this.position++] = (byte) ('0' + decimals / 10 % 10);
+        this.buffer[this.position++] = (byte) ('0' + decimals % 10);
+    }
+
+    /**
+     * Writes text formatted the slow way, draining first if it may not fit.
+     */
+    private void putFormatted(String text) {
+        byte[] bytes = ascii(text);
+        if (this.position + bytes.length > this.buffer.length - MAX_LINE) {
+            drain();
+        }
+        if (bytes.length > this.buffer.length - MAX_LINE) {
+            writeFully(ByteBuffer.wrap(bytes));
+            return;
+        }
+        put(bytes);
+    }
+
+    private void drain() {
+        this.view.clear();
+        this.view.limit(this.position);
+        writeFully(this.view);
+        this.position = 0;
+    }
+
+    private void writeFully(ByteBuffer bytes) {
+        try {
+            while (bytes.hasRemaining()) {
+                this.channel.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package cs2030.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Calendar queue (Brown, 1988) keyed by (time, customer ID), with O(1) amortized add and poll.
+ * Entries hash into buckets of fixed time width by their virtual bucket floor(time / width),
+ * each bucket being a linked list sorted by (time, customer ID).
+ * The number of buckets doubles or halves with the queue size, and the bucket width is
+ * re-estimated from the spacing of the earliest entries on every resize.
+ */
+class CalendarQueue implements TimeQueue {
+
+    private static final int MIN_BUCKETS = 16;
+    private static final int MIN_CAPACITY = 16;
+    private static final int WIDTH_SAMPLES = 25;
+    private static final int NONE = -1;
+
+    /*
+     * Node pool, linked through next, with released nodes chained from freeNode.
+     */
+    private double[] times;
+    private int[] customerIds;
+    private int[] payloads;
+    private int[] next;
+    private int freeNode;
+    private int usedNodes;
+
+    private int[] bucketHead;
+    private int[] bucketTail;
+    private int bucketMask;
+    private double width;
+    private int size;
+
+    /**
+     * Virtual bucket being drained, no pending entry lies in an earlier virtual bucket.
+     */
+    private long currentBucket;
+
+    private final double[] sampleTimes;
+    private final int[] sampleIds;
+    private final int[] samplePayloads;
+
+    CalendarQueue(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, MIN_CAPACITY);
+        this.times = new double[capacity];
+        this.customerIds = new int[capacity];
+        this.payloads = new int[capacity];
+        this.next = new int[capacity];
+        this.freeNode = NONE;
+        this.usedNodes = 0;
+        this.bucketHead = new int[MIN_BUCKETS];
+        this.bucketTail = new int[MIN_BUCKETS];
+        Arrays.fill(this.bucketHead, NONE);
+        Arrays.fill(this.bucketTail, NONE);
+        this.bucketMask = MIN_BUCKETS - 1;
+        this.width = 1.0;
+        this.size = 0;
+        this.currentBucket = 0;
+        this.sampleTimes = new double[WIDTH_SAMPLES];
+        this.sampleIds = new int[WIDTH_SAMPLES];
+        this.samplePayloads = new int[WIDTH_SAMPLES];
+    }
+
+    /**
+     * Virtual bucket of a time, monotone in time so earlier buckets hold earlier entries.
+     */
+    private long virtualBucket(double time) {
+        return (long) Math.floor(time / this.width);
+    }
+
+    @Override
+    public void add(double time, int customerId, int payload) {
+        int node = newNode();
+        this.times[node] = time;
+        this.customerIds[node] = customerId;
+        this.payloads[node] = payload;
+        insert(node);
+        this.size += 1;
+        if (this.size > 2 * this.bucketHead.length) {
+            resize(2 * this.bucketHead.length);
+        }
+    }
+
+    @Override
+    public int poll() {
+        if (this.size == 0) {
+            throw new IllegalStateException("poll on empty CalendarQueue");
+        }
+        int node = removeFirst();
+        int result = this.payloads[node];
+        releaseNode(node);
+        if (this.size < this.bucketHead.length / 2 && this.bucketHead.length > MIN_BUCKETS) {
+            resize(this.bucketHead.length / 2);
+        }
+        return result;
+    }
+
+    /**
+     * Links a node into its bucket, keeping the bucket sorted.
+     * Appends in O(1) when the key is not before the bucket tail, the usual case for
+     * arrivals loaded in order.
+     */
+    private void insert(int node) {
+        double time = this.times[node];
+        int customerId = this.customerIds[node];
+        long virtual = virtualBucket(time);
+        if (this.size == 0 || virtual < this.currentBucket) {
+            this.currentBucket = virtual;
+        }
+        int bucket = (int) (virtual & this.bucketMask);
+        int tail = this.bucketTail[bucket];
+        if (tail == NONE) {
+            this.next[node] = NONE;
+            this.bucketHead[bucket] = node;
+            this.bucketTail[bucket] = node;
+        } else if (!EventHeap.isBefore(time, customerId,
+                this.times[tail], this.customerIds[tail])) {
+            this.next[node] = NONE;
+            this.next[tail] = node;
+            this.bucketTail[bucket] = node;
+        } else {
+            int previous = NONE;
+            int current = this.bucketHead[bucket];
+            while (!EventHeap.isBefore(time, customerId,
+                    this.times[current], this.customerIds[current])) {
+                previous = current;
+                current = this.next[current];
+            }
+            this.next[node] = current;
+            if (previous == NONE) {
+                this.bucketHead[bucket] = node;
+            } else {
+                this.next[previous] = node;
+            }
+        }
+    }
+
+    /**
+     * Unlinks the earliest node, scanning forward one year of buckets from currentBucket
+     * before falling back to a direct search over all bucket heads.
+     */
+    private int removeFirst() {
+        int numBuckets = this.bucketHead.length;
+        for (int i = 0; i < numBuckets; i++) {
+            int bucket = (int) (this.currentBucket & this.bucketMask);
+            int head = this.bucketHead[bucket];
+            if (head != NONE && virtualBucket(this.times[head]) == this.currentBucket) {
+                return unlinkHead(bucket);
+            }
+            this.currentBucket += 1;
+        }
+        /*
+         * Sparse calendar, every pending entry is more than a year ahead.
+         */
+        int minBucket = NONE;
+        for (int bucket = 0; bucket < numBuckets; bucket++) {
+            int head = this.bucketHead[bucket];
+            if (head != NONE && (minBucket == NONE
+                    || EventHeap.isBefore(this.times[head], this.customerIds[head],
+                        this.times[this.bucketHead[minBucket]],
+                        this.customerIds[this.bucketHead[minBucket]]))) {
+                minBucket = bucket;
+            }
+        }
+        this.currentBucket = virtualBucket(this.times[this.bucketHead[minBucket]]);
+        return unlinkHead(minBucket);
+    }
+
+    private int unlinkHead(int bucket) {
+        int head = this.bucketHead[bucket];
+        this.bucketHead[bucket] = this.next[head];
+        if (this.next[head] == NONE) {
+            this.bucketTail[bucket] = NONE;
+        }
+        this.size -= 1;
+        return head;
+    }
+
+    /**
+     * Rebuilds the calendar with a new number of buckets and a re-estimated bucket width.
+     * @param numBuckets new number of buckets, a power of two
+     */
+    private void resize(int numBuckets) {
+        /*
+         * Take the earliest entries out to measure their spacing.
+         */
+        int samples = Math.min(this.size, WIDTH_SAMPLES);
+        for (int i = 0; i < samples; i++) {
+            int node = removeFirst();
+            this.sampleTimes[i] = this.times[node];
+            this.sampleIds[i] = this.customerIds[node];
+            this.samplePayloads[i] = this.payloads[node];
+            releaseNode(node);
+        }
+        double newWidth = estimateWidth(samples);
+        if (newWidth > 0.0) {
+            this.width = newWidth;
+        }
+
+        /*
+         * Detach all remaining nodes into one chain, then rehash them into the new buckets.
+         */
+        int chain = NONE;
+        for (int bucket = 0; bucket < this.bucketHead.length; bucket++) {
+            int current = this.bucketHead[bucket];
+            while (current != NONE) {
+                int following = this.next[current];
+                this.next[current] = chain;
+                chain = current;
+                current = following;
+            }
+        }
+        this.bucketHead = new int[numBuckets];
+        this.bucketTail = new int[numBuckets];
+        Arrays.fill(this.bucketHead, NONE);
+        Arrays.fill(this.bucketTail, NONE);
+        this.bucketMask = numBuckets - 1;
+        this.size = 0;
+        while (chain != NONE) {
+            int following = this.next[chain];
+            insert(chain);
+            this.size += 1;
+            chain = following;
+        }
+        for (int i = 0; i < samples; i++) {
+            int node = newNode();
+            this.times[node] = this.sampleTimes[i];
+            this.customerIds[node] = this.sampleIds[i];
+            this.payloads[node] = this.samplePayloads[i];
+            insert(node);
+            this.size += 1;
+        }
+    }
+
+    /**
+     * Three times the mean gap between sampled entries, ignoring gaps over twice the mean.
+     * @return estimated width, or 0.0 if the samples give no usable spacing
+     */
+    private double estimateWidth(int samples) {
+        double total = 0.0;
+        int gaps = 0;
+        for (int i = 1; i < samples; i++) {
+            double gap = this.sampleTimes[i] - this.sampleTimes[i - 1];
+            if (Double.isFinite(gap)) {
+                total += gap;
+                gaps += 1;
+            }
+        }
+        if (gaps == 0 || total <= 0.0) {
+            return 0.0;
+        }
+        double mean = total / gaps;
+        double trimmedTotal = 0.0;
+        int trimmedGaps = 0;
+        for (int i = 1; i < samples; i++) {
+            double gap = this.sampleTimes[i] - this.sampleTimes[i - 1];
+            if (Double.isFinite(gap) && gap <= 2.0 * mean) {
+                trimmedTotal += gap;
+                trimmedGaps += 1;
+            }
+        }
+        double trimmedMean = (trimmedTotal > 0.0) ? (trimmedTotal / trimmedGaps) : mean;
+        return 3.0 * trimmedMean;
+    }
+
+    private int newNode() {
+        if (this.freeNode != NONE) {
+            int node = this.freeNode;
+            this.freeNode = this.next[node];
+            return node;
+        }
+        if (this.usedNodes == this.times.length) {
+            int capacity = this.times.length * 2;
+            this.times = Arrays.copyOf(this.times, capacity);
+            this.customerIds = Arrays.copyOf(this.customerIds, capacity);
+            this.payloads = Arrays.copyOf(this.payloads, capacity);
+            this.next = Arrays.copyOf(this.next, capacity);
+        }
+        int node = this.usedNodes;
+        this.usedNodes += 1;
+        return node;
+    }
+
+    private void releaseNode(int node) {
+        this.next[node] = this.freeNode;
+        this.freeNode = node;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
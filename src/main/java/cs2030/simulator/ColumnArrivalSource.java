@@ -0,0 +1,67 @@
+package cs2030.simulator;
+
+/**
+ * ArrivalSource reading arrival times, and optionally service times, from columns.
+ * Customers without service times take the default service time of 1.0.
+ */
+class ColumnArrivalSource implements ArrivalSource {
+
+    private static final double DEFAULT_SERVICE_TIME = 1.0;
+
+    private final DoubleColumn arrivalTimes;
+    private final DoubleColumn serviceTimes;
+    private final boolean ordered;
+    private int customerId;
+
+    /**
+     * Constructor, checking once whether arrivalTimes are ordered.
+     * @param arrivalTimes customer arrivalTimes
+     * @param serviceTimes customer serviceTimes, or null for default service times
+     */
+    ColumnArrivalSource(DoubleColumn arrivalTimes, DoubleColumn serviceTimes) {
+        this.arrivalTimes = arrivalTimes;
+        this.serviceTimes = serviceTimes;
+        boolean ordered = true;
+        for (int i = 1; i < arrivalTimes.size() && ordered; i++) {
+            ordered = !(arrivalTimes.get(i) < arrivalTimes.get(i - 1));
+        }
+        this.ordered = ordered;
+        this.customerId = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.customerId < this.arrivalTimes.size();
+    }
+
+    @Override
+    public void advance() {
+        this.customerId += 1;
+    }
+
+    @Override
+    public int getCustomerId() {
+        return this.customerId;
+    }
+
+    @Override
+    public double getArrivalTime() {
+        return this.arrivalTimes.get(this.customerId - 1);
+    }
+
+    @Override
+    public double getServiceTime() {
+        return (this.serviceTimes == null)
+            ? DEFAULT_SERVICE_TIME : this.serviceTimes.get(this.customerId - 1);
+    }
+
+    @Override
+    public boolean isGreedy() {
+        return false;
+    }
+
+    @Override
+    public boolean isOrdered() {
+        return this.ordered;
+    }
+}
@@ -0,0 +1,112 @@
+package cs2030.simulator;
+
+import java.util.Arrays;
+
+/**
+ * VariateSource of common random numbers, each draw keyed on the customer or server it is for.
+ * customer i takes value i of the arrival, service and customer type streams, whether or
+ * not it is served and whichever server serves it, and server k draws its rests from
+ * streams of its own, so two configurations run on the same seed meet the same customers.
+ * the streams are SplitMix64 streams seeded from the Xoshiro256 streams of the replication.
+ * uniforms lie on the grid (n + 0.5) / 2^52, which u to 1 - u maps onto itself, so an
+ * antithetic run draws exactly 1 - u for every u of its partner, and no exponential is
+ * infinite.
+ */
+class CommonVariates implements VariateSource {
+
+    private final long arrivalSeed;
+    private final long serviceSeed;
+    private final long restSeed;
+    private final long restPeriodSeed;
+    private final long customerTypeSeed;
+    private final double arrivalRate;
+    private final double serviceRate;
+    private final double restingRate;
+    private final boolean antithetic;
+
+    /**
+     * Draws taken so far by each server, slot 2 * serverId for rests and the next slot for
+     * rest periods.
+     */
+    private long[] serverDraws;
+
+    /**
+     * Constructor.
+     * @param baseSeed seed of replication 0
+     * @param replication index of the replication
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @param antithetic whether to draw 1 - u in place of every uniform u
+     */
+    CommonVariates(int baseSeed, int replication, double arrivalRate, double serviceRate,
+                   double restingRate, boolean antithetic) {
+        Xoshiro256[] streams = Xoshiro256.streams(baseSeed, replication,
+                XoshiroVariates.NUM_STREAMS);
+        this.arrivalSeed = streams[0].nextLong();
+        this.serviceSeed = streams[1].nextLong();
+        this.restSeed = streams[2].nextLong();
+        this.restPeriodSeed = streams[3].nextLong();
+        this.customerTypeSeed = streams[4].nextLong();
+        this.arrivalRate = arrivalRate;
+        this.serviceRate = serviceRate;
+        this.restingRate = restingRate;
+        this.antithetic = antithetic;
+        this.serverDraws = new long[0];
+    }
+
+    /**
+     * Maps 64 random bits to a uniform variate, or its antithetic.
+     * @param bits random bits
+     * @return uniform variate in (0, 1)
+     */
+    private double uniform(long bits) {
+        double u = ((bits >>> 12) + 0.5) * 0x1.0p-52;
+        return this.antithetic ? 1.0 - u : u;
+    }
+
+    /**
+     * Next value of the stream of one server.
+     * @param seed seed of the kind of draw, from which each server's stream is seeded
+     * @param serverId server drawing
+     * @param kind 0 for rests, 1 for rest periods
+     * @return 64 random bits
+     */
+    private long serverValue(long seed, int serverId, int kind) {
+        int slot = 2 * serverId + kind;
+        if (slot >= this.serverDraws.length) {
+            this.serverDraws = Arrays.copyOf(this.serverDraws,
+                    Math.max(2 * this.serverDraws.length, slot + 1));
+        }
+        this.serverDraws[slot] += 1;
+        return SplitMix64.value(SplitMix64.value(seed, serverId), this.serverDraws[slot]);
+    }
+
+    @Override
+    public double genInterArrivalTime(int customerId) {
+        return -Math.log(uniform(SplitMix64.value(this.arrivalSeed, customerId)))
+            / this.arrivalRate;
+    }
+
+    @Override
+    public double genServiceTime(int customerId) {
+        return -Math.log(uniform(SplitMix64.value(this.serviceSeed, customerId)))
+            / this.serviceRate;
+    }
+
+    @Override
+    public double genRandomRest(int serverId) {
+        return uniform(serverValue(this.restSeed, serverId, 0));
+    }
+
+    @Override
+    public double genRestPeriod(int serverId) {
+        return -Math.log(uniform(serverValue(this.restPeriodSeed, serverId, 1)))
+            / this.restingRate;
+    }
+
+    @Override
+    public double genCustomerType(int customerId) {
+        return uniform(SplitMix64.value(this.customerTypeSeed, customerId));
+    }
+}
@@ -0,0 +1,81 @@
+package cs2030.simulator;
+
+import java.util.Random;
+
+/**
+ * VariateSource reproducing the sequences of the baseline RandomGenerator exactly.
+ * one java.util.Random per stream, seeded baseSeed for arrivals, baseSeed + 1 for service,
+ * baseSeed + 2 for rests, baseSeed + 3 for rest periods and baseSeed + 4 for customer
+ * types. baseSeed + 5 seeds an unused timeout stream in RandomGenerator.
+ */
+class CompatibleVariates implements VariateSource {
+
+    /**
+     * Streams seeded per run, so replication seeds are this far apart to keep the streams
+     * of different replications distinct.
+     */
+    static final int SEED_STRIDE = 6;
+
+    private final Random arrival;
+    private final Random service;
+    private final Random rest;
+    private final Random restPeriod;
+    private final Random customerType;
+    private final double arrivalRate;
+    private final double serviceRate;
+    private final double restingRate;
+
+    /**
+     * Constructor, with the parameters of RandomGenerator.
+     * @param baseSeed seed of the first stream
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     */
+    CompatibleVariates(int baseSeed, double arrivalRate, double serviceRate,
+                       double restingRate) {
+        this.arrival = new Random(baseSeed);
+        this.service = new Random(baseSeed + 1);
+        this.rest = new Random(baseSeed + 2);
+        this.restPeriod = new Random(baseSeed + 3);
+        this.customerType = new Random(baseSeed + 4);
+        this.arrivalRate = arrivalRate;
+        this.serviceRate = serviceRate;
+        this.restingRate = restingRate;
+    }
+
+    /**
+     * Seed of a replication.
+     * @param baseSeed seed of replication 0
+     * @param replication index of the replication
+     * @return baseSeed of that replication's streams
+     */
+    static int seedOf(int baseSeed, int replication) {
+        return baseSeed + SEED_STRIDE * replication;
+    }
+
+    @Override
+    public double genInterArrivalTime(int customerId) {
+        return -Math.log(this.arrival.nextDouble()) / this.arrivalRate;
+    }
+
+    @Override
+    public double genServiceTime(int customerId) {
+        return -Math.log(this.service.nextDouble()) / this.serviceRate;
+    }
+
+    @Override
+    public double genRandomRest(int serverId) {
+        return this.rest.nextDouble();
+    }
+
+    @Override
+    public double genRestPeriod(int serverId) {
+        return -Math.log(this.restPeriod.nextDouble()) / this.restingRate;
+    }
+
+    @Override
+    public double genCustomerType(int customerId) {
+        return this.customerType.nextDouble();
+    }
+}
@@ -6,16 +6,16 @@ package cs2030.simulator;
 class Customer {
 
     private final int id;
-    private final Double arrivalTime;
-    private final Double serviceTime;
+    private final double arrivalTime;
+    private final double serviceTime;
 
-    Customer(int id, Double arrivalTime) {
+    Customer(int id, double arrivalTime) {
         this.id = id;
         this.arrivalTime = arrivalTime;
         this.serviceTime = 1.0;
     }
 
-    Customer(int id, Double arrivalTime, Double serviceTime) {
+    Customer(int id, double arrivalTime, double serviceTime) {
         this.id = id;
         this.arrivalTime = arrivalTime;
         this.serviceTime = serviceTime;
@@ -25,11 +25,11 @@ class Customer {
         return this.id;
     }
 
-    public Double getArrivalTime() {
+    public double getArrivalTime() {
         return this.arrivalTime;
     }
 
-    public Double getServiceTime() {
+    public double getServiceTime() {
         return this.serviceTime;
     }
 
@@ -0,0 +1,91 @@
+package cs2030.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-capacity FIFO ring buffer of waiting customers, with O(1) offer and poll.
+ * The backing array starts small and doubles up to the capacity, since most queues never fill.
+ */
+class CustomerQueue {
+
+    private static final int INITIAL_LENGTH = 4;
+
+    private final int capacity;
+    private Customer[] customers;
+    private int head;
+    private int size;
+
+    /**
+     * Constructor for an empty queue.
+     * @param capacity maximum number of waiting customers
+     */
+    CustomerQueue(int capacity) {
+        this.capacity = capacity;
+        this.customers = new Customer[Math.max(1, Math.min(capacity, INITIAL_LENGTH))];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    int getCapacity() {
+        return this.capacity;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Adds customer to the back of the queue if there is space.
+     * @param customer next Customer that needs to be added
+     * @return whether the customer was added
+     */
+    boolean offer(Customer customer) {
+        if (this.size >= this.capacity) {
+            return false;
+        }
+        if (this.size == this.customers.length) {
+            grow();
+        }
+        this.customers[(this.head + this.size) % this.customers.length] = customer;
+        this.size += 1;
+        return true;
+    }
+
+    /**
+     * Fetches the customer at the front of the queue.
+     * @return first customer in queue, or null if empty
+     */
+    Customer peek() {
+        return (this.size == 0) ? null : this.customers[this.head];
+    }
+
+    /**
+     * Removes the customer at the front of the queue.
+     * @return first customer in queue, or null if empty
+     */
+    Customer poll() {
+        if (this.size == 0) {
+            return null;
+        }
+        Customer customer = this.customers[this.head];
+        this.customers[this.head] = null;
+        this.head = (this.head + 1) % this.customers.length;
+        this.size -= 1;
+        return customer;
+    }
+
+    private void grow() {
+        int length = (int) Math.min((long) this.customers.length * 2, this.capacity);
+        Customer[] grown = new Customer[length];
+        for (int i = 0; i < this.size; i++) {
+            grown[i] = this.customers[(this.head + i) % this.customers.length];
+        }
+        Arrays.fill(this.customers, null);
+        this.customers = grown;
+        this.head = 0;
+    }
+}
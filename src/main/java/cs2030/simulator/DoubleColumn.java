@@ -0,0 +1,76 @@
+package cs2030.simulator;
+
+import java.nio.DoubleBuffer;
+import java.util.List;
+
+/**
+ * Read-only column of primitive doubles, such as the arrival, service or rest times of a run.
+ * lets the engines read their inputs from a List, a double[] or any other storage alike,
+ * without boxing or copying them.
+ */
+interface DoubleColumn {
+
+    int size();
+
+    double get(int index);
+
+    /**
+     * Creates a column over an array, which is not copied.
+     * @param values array of the column
+     * @return DoubleColumn reading values
+     */
+    static DoubleColumn of(double[] values) {
+        return new DoubleColumn() {
+            @Override
+            public int size() {
+                return values.length;
+            }
+
+            @Override
+            public double get(int index) {
+                return values[index];
+            }
+        };
+    }
+
+    /**
+     * Creates a column over a list, which is not copied.
+     * @param values list of the column
+     * @return DoubleColumn reading values
+     */
+    static DoubleColumn of(List<Double> values) {
+        return new DoubleColumn() {
+            @Override
+            public int size() {
+                return values.size();
+            }
+
+            @Override
+            public double get(int index) {
+                return values.get(index);
+            }
+        };
+    }
+
+    /**
+     * Creates a column over the remaining values of a buffer, such as a mapped file.
+     * the buffer is read with absolute gets, so its position is left as it is
+     * @param values buffer of the column
+     * @return DoubleColumn reading values
+     */
+    static DoubleColumn of(DoubleBuffer values) {
+        int start = values.position();
+        int size = values.remaining();
+        return new DoubleColumn() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public double get(int index) {
+                return values.get(start + index);
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package cs2030.simulator;
+
+/**
+ * Enum class for the ways a Simulator can hold simulation state.
+ * Both produce the same events and Statistics.
+ */
+public enum EngineType {
+
+    /**
+     * Immutable Server, Customer and Event objects.
+     */
+    OBJECT,
+
+    /**
+     * Struct-of-arrays state updated in place by ArrayEngine, with no allocation per event.
+     */
+    ARRAY
+}
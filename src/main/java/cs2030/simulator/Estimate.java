@@ -0,0 +1,94 @@
+package cs2030.simulator;
+
+/**
+ * Running mean and variance of one quantity over replications, with its 95% confidence interval.
+ * Uses Welford's update, so values are added one at a time without being stored.
+ */
+public class Estimate {
+
+    /**
+     * 0.975 quantile of the standard normal distribution.
+     */
+    private static final double Z_975 = 1.959963984540054;
+
+    /**
+     * 0.975 quantiles of Student's t distribution for 1 to 30 degrees of freedom.
+     */
+    private static final double[] T_975 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private long count;
+    private double mean;
+    private double sumSquares;
+
+    Estimate() {
+        this.count = 0;
+        this.mean = 0.0;
+        this.sumSquares = 0.0;
+    }
+
+    /**
+     * Adds the value of one replication.
+     * @param value value to add
+     */
+    void add(double value) {
+        this.count += 1;
+        double delta = value - this.mean;
+        this.mean += delta / this.count;
+        this.sumSquares += delta * (value - this.mean);
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public double getMean() {
+        return this.mean;
+    }
+
+    /**
+     * Sample variance, with n - 1 in the denominator.
+     * @return variance, or 0.0 with fewer than 2 values
+     */
+    public double getVariance() {
+        return (this.count < 2) ? 0.0 : this.sumSquares / (this.count - 1);
+    }
+
+    /**
+     * Half-width of the 95% confidence interval of the mean, using Student's t.
+     * @return half-width, or infinity with fewer than 2 values
+     */
+    public double getHalfWidth() {
+        if (this.count < 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return tQuantile(this.count - 1) * Math.sqrt(getVariance() / this.count);
+    }
+
+    /**
+     * 0.975 quantile of Student's t distribution.
+     * tabulated up to 30 degrees of freedom, then the Cornish-Fisher expansion around Z_975
+     * @param degrees degrees of freedom, at least 1
+     * @return quantile
+     */
+    static double tQuantile(long degrees) {
+        if (degrees <= T_975.length) {
+            return T_975[(int) degrees - 1];
+        }
+        double z = Z_975;
+        double z2 = z * z;
+        double g1 = (z2 + 1) * z / 4;
+        double g2 = ((5 * z2 + 16) * z2 + 3) * z / 96;
+        double g3 = (((3 * z2 + 19) * z2 + 17) * z2 - 15) * z / 384;
+        double n = degrees;
+        return z + g1 / n + g2 / (n * n) + g3 / (n * n * n);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.3f +- %.3f (var %.3f)", getMean(), getHalfWidth(), getVariance());
+    }
+}
@@ -1,17 +1,21 @@
 package cs2030.simulator;
 
-import java.util.Optional;
-
 /**
  * Event class that can store customer, event time, a server and also the current event state.
  * uses EventState enum to track event states
+ * an Event is not changed once created, except by an EventPool recycling it after it has
+ * been processed.
  */
 class Event {
 
-    private final Customer customer;
-    private final Double time;
-    private final Optional<Server> server;
-    private final EventState currentState;
+    private Customer customer;
+    private double time;
+
+    /**
+     * Server of the event, or null for ARRIVE and LEAVE events, which have none.
+     */
+    private Server server;
+    private EventState currentState;
 
     /**
      * Default constructor, for ARRIVE events.
@@ -20,7 +24,7 @@ class Event {
     Event(Customer customer) {
         this.customer = customer;
         this.time = customer.getArrivalTime();
-        this.server = Optional.empty();
+        this.server = null;
         this.currentState = EventState.ARRIVE;
     }
 
@@ -31,10 +35,10 @@ class Event {
      * @param server server
      * @param currentState new event state
      */
-    Event(Customer customer, Double time, Server server, EventState currentState) {
+    Event(Customer customer, double time, Server server, EventState currentState) {
         this.customer = customer;
         this.time = time;
-        this.server = Optional.ofNullable(server);
+        this.server = server;
         this.currentState = currentState;
     }
 
@@ -46,20 +50,44 @@ class Event {
     Event(Event event, EventState currentState) {
         this.customer = event.getCustomer();
         this.time = event.getTime();
-        this.server = Optional.ofNullable(event.getServer());
+        this.server = event.getServer();
+        this.currentState = currentState;
+    }
+
+    /**
+     * Overwrites every attribute, for EventPool only.
+     * @param customer customer
+     * @param time time
+     * @param server server, or null
+     * @param currentState new event state
+     * @return itself
+     */
+    Event recycle(Customer customer, double time, Server server, EventState currentState) {
+        this.customer = customer;
+        this.time = time;
+        this.server = server;
         this.currentState = currentState;
+        return this;
     }
 
     public Customer getCustomer() {
         return this.customer;
     }
 
-    public Double getTime() {
+    public double getTime() {
         return this.time;
     }
 
+    /**
+     * Server of the event.
+     * @return Server, or null if the event has none
+     */
     public Server getServer() {
-        return this.server.orElse(new Server(-1));
+        return this.server;
+    }
+
+    EventState getState() {
+        return this.currentState;
     }
 
     public boolean isArrive() {
@@ -90,7 +118,7 @@ class Event {
         return this.currentState == EventState.SERVERBACK;
     }
 
-    public Event serve(Customer customer, Double time, Server server) {
+    public Event serve(Customer customer, double time, Server server) {
         return new Event(customer, time, server, EventState.SERVE);
     }
 
@@ -99,7 +127,7 @@ class Event {
                 server, EventState.WAIT);
     }
 
-    public Event done(Double time) {
+    public Event done(double time) {
         return new Event(this.getCustomer(), time, this.getServer(), EventState.DONE);
     }
 
@@ -107,11 +135,11 @@ class Event {
         return new Event(this, EventState.LEAVE);
     }
 
-    public Event serverRest(Double time) {
+    public Event serverRest(double time) {
         return new Event(this.getCustomer(), time, this.getServer(), EventState.SERVERREST);
     }
 
-    public Event serverBack(Double time) {
+    public Event serverBack(double time) {
         return new Event(this.getCustomer(), time, this.getServer(), EventState.SERVERBACK);
     }
 
@@ -0,0 +1,126 @@
+package cs2030.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Primitive 4-ary min-heap keyed by (time, customer ID).
+ * Keys and payloads are kept in parallel arrays, so add and poll never allocate
+ * once the arrays have grown to the working size.
+ */
+class EventHeap implements TimeQueue {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private double[] times;
+    private int[] customerIds;
+    private int[] payloads;
+    private int size;
+
+    EventHeap(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, MIN_CAPACITY);
+        this.times = new double[capacity];
+        this.customerIds = new int[capacity];
+        this.payloads = new int[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Same ordering as EventComparator, earlier time first, then smaller customer ID.
+     */
+    static boolean isBefore(double time, int customerId, double otherTime, int otherCustomerId) {
+        if (time < otherTime) {
+            return true;
+        } else if (time > otherTime) {
+            return false;
+        } else {
+            return customerId < otherCustomerId;
+        }
+    }
+
+    @Override
+    public void add(double time, int customerId, int payload) {
+        if (this.size == this.times.length) {
+            grow();
+        }
+        int index = this.size;
+        this.size += 1;
+        /*
+         * Sift up, moving parents down until the new key fits.
+         */
+        while (index > 0) {
+            int parent = (index - 1) >>> 2;
+            if (!isBefore(time, customerId, this.times[parent], this.customerIds[parent])) {
+                break;
+            }
+            this.times[index] = this.times[parent];
+            this.customerIds[index] = this.customerIds[parent];
+            this.payloads[index] = this.payloads[parent];
+            index = parent;
+        }
+        this.times[index] = time;
+        this.customerIds[index] = customerId;
+        this.payloads[index] = payload;
+    }
+
+    @Override
+    public int poll() {
+        if (this.size == 0) {
+            throw new IllegalStateException("poll on empty EventHeap");
+        }
+        int result = this.payloads[0];
+        this.size -= 1;
+        int last = this.size;
+        if (last > 0) {
+            siftDown(this.times[last], this.customerIds[last], this.payloads[last]);
+        }
+        return result;
+    }
+
+    /**
+     * Places the given key at the root and moves it down to its position.
+     */
+    private void siftDown(double time, int customerId, int payload) {
+        int index = 0;
+        while (true) {
+            int firstChild = (index << 2) + 1;
+            if (firstChild >= this.size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + 3, this.size - 1);
+            int minChild = firstChild;
+            for (int child = firstChild + 1; child <= lastChild; child++) {
+                if (isBefore(this.times[child], this.customerIds[child],
+                        this.times[minChild], this.customerIds[minChild])) {
+                    minChild = child;
+                }
+            }
+            if (!isBefore(this.times[minChild], this.customerIds[minChild], time, customerId)) {
+                break;
+            }
+            this.times[index] = this.times[minChild];
+            this.customerIds[index] = this.customerIds[minChild];
+            this.payloads[index] = this.payloads[minChild];
+            index = minChild;
+        }
+        this.times[index] = time;
+        this.customerIds[index] = customerId;
+        this.payloads[index] = payload;
+    }
+
+    private void grow() {
+        int capacity = this.times.length * 2;
+        this.times = Arrays.copyOf(this.times, capacity);
+        this.customerIds = Arrays.copyOf(this.customerIds, capacity);
+        this.payloads = Arrays.copyOf(this.payloads, capacity);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
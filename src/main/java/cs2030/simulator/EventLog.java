@@ -0,0 +1,33 @@
+package cs2030.simulator;
+
+/**
+ * Layout of the binary event log written by BinaryTraceSink and read by EventLogReader.
+ * A 16 byte header, then one fixed-width little-endian record per traced event.
+ * header: int MAGIC, short VERSION, short RECORD_SIZE, long number of records
+ * record: double time, int customerId, int serverId, byte EventState ordinal, byte flags
+ */
+final class EventLog {
+
+    static final int MAGIC = 0x56455343;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int COUNT_OFFSET = 8;
+
+    static final int TIME_OFFSET = 0;
+    static final int CUSTOMER_OFFSET = 8;
+    static final int SERVER_OFFSET = 12;
+    static final int STATE_OFFSET = 16;
+    static final int FLAGS_OFFSET = 17;
+    static final int RECORD_SIZE = 18;
+
+    static final int GREEDY_FLAG = 1;
+    static final int SELF_CHECKOUT_FLAG = 2;
+
+    /**
+     * Records EventLogReader maps at a time, so files larger than one mapping can be read.
+     */
+    static final int WINDOW_RECORDS = 1 << 20;
+
+    private EventLog() {
+    }
+}
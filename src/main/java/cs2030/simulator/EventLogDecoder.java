@@ -0,0 +1,22 @@
+package cs2030.simulator;
+
+import java.nio.file.Paths;
+
+/**
+ * Prints a binary event log as the text trace the simulation would have printed.
+ * usage: java cs2030.simulator.EventLogDecoder eventLogFile
+ */
+public class EventLogDecoder {
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("usage: java cs2030.simulator.EventLogDecoder eventLogFile");
+            System.exit(2);
+        }
+        TraceSink out = BufferedTraceSink.standardOutput();
+        try (EventLogReader reader = new EventLogReader(Paths.get(args[0]))) {
+            reader.replay(out);
+        }
+        out.close();
+    }
+}
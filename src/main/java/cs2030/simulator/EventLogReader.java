@@ -0,0 +1,161 @@
+package cs2030.simulator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Cursor over the records of a binary event log, read from a memory-mapped file.
+ * next moves to the following record and the getters read its fields in place, so a scan
+ * allocates nothing per record, only one mapping per window of EventLog.WINDOW_RECORDS.
+ * The getters are only valid after next or seek has returned true.
+ */
+public class EventLogReader implements AutoCloseable {
+
+    private static final EventState[] STATES = EventState.values();
+
+    private final FileChannel channel;
+    private final long count;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long index;
+    private int offset;
+
+    /**
+     * Constructor opening a log, positioned before the first record.
+     * @param path file written by a binary trace
+     */
+    public EventLogReader(Path path) {
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            ByteBuffer header = ByteBuffer.allocate(EventLog.HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && this.channel.read(header) >= 0) {
+                continue;
+            }
+            header.flip();
+            if (header.remaining() < EventLog.HEADER_SIZE
+                    || header.getInt() != EventLog.MAGIC
+                    || header.getShort() != EventLog.VERSION
+                    || header.getShort() != EventLog.RECORD_SIZE) {
+                this.channel.close();
+                throw new IllegalArgumentException(path + " is not a binary event log");
+            }
+            this.count = header.getLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.window = null;
+        this.windowStart = 0;
+        this.index = -1;
+        this.offset = 0;
+    }
+
+    /**
+     * Number of records in the log.
+     * @return record count
+     */
+    public long size() {
+        return this.count;
+    }
+
+    /**
+     * Moves to the next record.
+     * @return false if there are no more records
+     */
+    public boolean next() {
+        return seek(this.index + 1);
+    }
+
+    /**
+     * Moves to a record by index.
+     * @param record index of the record, from 0
+     * @return false if there is no such record
+     */
+    public boolean seek(long record) {
+        if (record < 0 || record >= this.count) {
+            this.index = Math.max(-1, Math.min(record, this.count));
+            return false;
+        }
+        if (this.window == null || record < this.windowStart
+                || record >= this.windowStart + EventLog.WINDOW_RECORDS) {
+            mapWindow(record - record % EventLog.WINDOW_RECORDS);
+        }
+        this.index = record;
+        this.offset = (int) (record - this.windowStart) * EventLog.RECORD_SIZE;
+        return true;
+    }
+
+    private void mapWindow(long record) {
+        long records = Math.min(EventLog.WINDOW_RECORDS, this.count - record);
+        try {
+            this.window = this.channel.map(FileChannel.MapMode.READ_ONLY,
+                    EventLog.HEADER_SIZE + record * EventLog.RECORD_SIZE,
+                    records * EventLog.RECORD_SIZE);
+            this.window.order(ByteOrder.LITTLE_ENDIAN);
+            this.windowStart = record;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getIndex() {
+        return this.index;
+    }
+
+    public double getTime() {
+        return this.window.getDouble(this.offset + EventLog.TIME_OFFSET);
+    }
+
+    public int getCustomerId() {
+        return this.window.getInt(this.offset + EventLog.CUSTOMER_OFFSET);
+    }
+
+    /**
+     * ServerId of the record.
+     * @return serverId, or -1 for events not at a server
+     */
+    public int getServerId() {
+        return this.window.getInt(this.offset + EventLog.SERVER_OFFSET);
+    }
+
+    public EventState getState() {
+        return STATES[this.window.get(this.offset + EventLog.STATE_OFFSET)];
+    }
+
+    public boolean isGreedy() {
+        return (this.window.get(this.offset + EventLog.FLAGS_OFFSET)
+                & EventLog.GREEDY_FLAG) != 0;
+    }
+
+    public boolean isSelfCheckout() {
+        return (this.window.get(this.offset + EventLog.FLAGS_OFFSET)
+                & EventLog.SELF_CHECKOUT_FLAG) != 0;
+    }
+
+    /**
+     * Writes every record from the current position on to a TraceSink.
+     * @param sink TraceSink to replay the events to
+     */
+    public void replay(TraceSink sink) {
+        while (next()) {
+            sink.write(getState(), getTime(), getCustomerId(), isGreedy(), getServerId(),
+                    isSelfCheckout());
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.window = null;
+            this.channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
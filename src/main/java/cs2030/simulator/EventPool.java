@@ -0,0 +1,72 @@
+package cs2030.simulator;
+
+/**
+ * Free list of processed events of a Simulation, recycled into new ones.
+ * the state changes mirror those of Event, but reuse a released Event when there is one,
+ * so that once as many events are pending as the run ever needs, events stop allocating.
+ * an Event may only be released once nothing refers to it any more.
+ */
+class EventPool {
+
+    private Event[] free;
+    private int size;
+
+    EventPool() {
+        this.free = new Event[16];
+        this.size = 0;
+    }
+
+    /**
+     * Returns an event to the pool.
+     * @param event processed Event that nothing refers to any more
+     */
+    void release(Event event) {
+        if (this.size == this.free.length) {
+            Event[] grown = new Event[this.size * 2];
+            System.arraycopy(this.free, 0, grown, 0, this.size);
+            this.free = grown;
+        }
+        this.free[this.size] = event;
+        this.size++;
+    }
+
+    private Event obtain(Customer customer, double time, Server server, EventState state) {
+        if (this.size == 0) {
+            return new Event(customer, time, server, state);
+        }
+        this.size--;
+        Event event = this.free[this.size];
+        this.free[this.size] = null;
+        return event.recycle(customer, time, server, state);
+    }
+
+    Event arrive(Customer customer) {
+        return obtain(customer, customer.getArrivalTime(), null, EventState.ARRIVE);
+    }
+
+    Event serve(Customer customer, double time, Server server) {
+        return obtain(customer, time, server, EventState.SERVE);
+    }
+
+    Event wait(Event event, Server server) {
+        return obtain(event.getCustomer(), event.getCustomer().getArrivalTime(), server,
+                EventState.WAIT);
+    }
+
+    Event done(Event event, double time) {
+        return obtain(event.getCustomer(), time, event.getServer(), EventState.DONE);
+    }
+
+    Event leave(Event event) {
+        return obtain(event.getCustomer(), event.getTime(), event.getServer(),
+                EventState.LEAVE);
+    }
+
+    Event serverRest(Event event, double time) {
+        return obtain(event.getCustomer(), time, event.getServer(), EventState.SERVERREST);
+    }
+
+    Event serverBack(Event event, double time) {
+        return obtain(event.getCustomer(), time, event.getServer(), EventState.SERVERBACK);
+    }
+}
@@ -0,0 +1,20 @@
+package cs2030.simulator;
+
+/**
+ * Pending event set used by Simulator.
+ * Events are polled in ascending time, then by ascending customer ID, as in EventComparator.
+ */
+interface EventQueue {
+
+    void add(Event event);
+
+    /**
+     * Removes and returns the earliest event.
+     * @return earliest event, or null if empty
+     */
+    Event poll();
+
+    boolean isEmpty();
+
+    int size();
+}
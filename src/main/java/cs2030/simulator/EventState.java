@@ -3,7 +3,7 @@ package cs2030.simulator;
 /**
  * Enum class for the different event states.
  */
-enum EventState {
+public enum EventState {
     ARRIVE,
     SERVE,
     WAIT,
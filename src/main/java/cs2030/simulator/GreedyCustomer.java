@@ -5,7 +5,7 @@ package cs2030.simulator;
  */
 class GreedyCustomer extends Customer {
 
-    GreedyCustomer(int id, Double arrivalTime) {
+    GreedyCustomer(int id, double arrivalTime) {
         super(id, arrivalTime);
     }
 
@@ -0,0 +1,444 @@
+package cs2030.simulator;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Whitespace separated ASCII ints and doubles read in bulk, in place of java.util.Scanner.
+ * the input is read from a channel in large blocks and parsed by hand straight into
+ * primitive arrays. a double with at most 15 significant digits and a decimal exponent of
+ * at most 22 is exact as one multiplication or division of two exact doubles, anything
+ * else is left to Double.parseDouble, so that every value is the one Scanner would read.
+ */
+public class InputReader {
+
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * Largest power of ten exactly representable as a double.
+     */
+    private static final int MAX_EXACT_POWER = 22;
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_POWER + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i <= MAX_EXACT_POWER; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+        }
+    }
+
+    private final ReadableByteChannel channel;
+    private final byte[] buffer;
+    private final ByteBuffer window;
+
+    /**
+     * Bytes before position are consumed, bytes from limit on are not read yet.
+     */
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    /**
+     * Constructor.
+     * @param channel to read the input from
+     * @param capacity size of the buffer, bounding the length of a token
+     */
+    InputReader(ReadableByteChannel channel, int capacity) {
+        this.channel = channel;
+        this.buffer = new byte[capacity];
+        this.window = ByteBuffer.wrap(this.buffer);
+        this.position = 0;
+        this.limit = 0;
+        this.endOfInput = false;
+    }
+
+    /**
+     * Constructor reading a file.
+     * @param path file to read
+     */
+    public InputReader(Path path) {
+        this(open(path), DEFAULT_CAPACITY);
+    }
+
+    private static FileChannel open(Path path) {
+        try {
+            return FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates an InputReader on the channel of standard input, bypassing System.in.
+     * @return InputReader of standard input
+     */
+    public static InputReader standardInput() {
+        return new InputReader(new FileInputStream(FileDescriptor.in).getChannel(),
+                DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Reads more input after the unconsumed bytes, moving them to the front if needed.
+     * @return false if the input has ended
+     */
+    private boolean fill() {
+        if (this.endOfInput) {
+            return false;
+        }
+        if (this.position > 0) {
+            System.arraycopy(this.buffer, this.position, this.buffer, 0,
+                    this.limit - this.position);
+            this.limit -= this.position;
+            this.position = 0;
+        }
+        if (this.limit == this.buffer.length) {
+            throw new InputMismatchException("token longer than " + this.buffer.length);
+        }
+        try {
+            this.window.limit(this.buffer.length).position(this.limit);
+            int read = this.channel.read(this.window);
+            while (read == 0) {
+                read = this.channel.read(this.window);
+            }
+            if (read < 0) {
+                this.endOfInput = true;
+                return false;
+            }
+            this.limit += read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f' || b == 0x0b;
+    }
+
+    /**
+     * Skips whitespace up to the next token.
+     * @return false if the input has ended before one
+     */
+    private boolean skipWhitespace() {
+        while (true) {
+            while (this.position < this.limit) {
+                if (!isWhitespace(this.buffer[this.position])) {
+                    return true;
+                }
+                this.position++;
+            }
+            if (!fill()) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Finds the end of the token at position, reading more input if needed.
+     * @return index after the last byte of the token
+     */
+    private int tokenEnd() {
+        int end = this.position;
+        while (true) {
+            while (end < this.limit) {
+                if (isWhitespace(this.buffer[end])) {
+                    return end;
+                }
+                end++;
+            }
+            int offset = end - this.position;
+            if (!fill()) {
+                return this.limit;
+            }
+            end = this.position + offset;
+        }
+    }
+
+    /**
+     * Discards the rest of the current line, as Scanner.nextLine does after a header.
+     */
+    public void skipLine() {
+        while (true) {
+            while (this.position < this.limit) {
+                if (this.buffer[this.position++] == '\n') {
+                    return;
+                }
+            }
+            if (!fill()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Whether another token follows.
+     * @return true unless only whitespace is left
+     */
+    public boolean hasNext() {
+        return skipWhitespace();
+    }
+
+    /**
+     * Whether the next token is a double, without consuming it.
+     * @return true if nextDouble would succeed
+     */
+    public boolean hasNextDouble() {
+        if (!skipWhitespace()) {
+            return false;
+        }
+        int end = tokenEnd();
+        return !Double.isNaN(parseDouble(this.buffer, this.position, end, Double.NaN))
+            || isNaN(this.buffer, this.position, end);
+    }
+
+    /**
+     * Reads the next token as an int.
+     * @return int value
+     * @throws NoSuchElementException if the input has ended
+     * @throws InputMismatchException if the token is not an int
+     */
+    public int nextInt() {
+        if (!skipWhitespace()) {
+            throw new NoSuchElementException();
+        }
+        int end = tokenEnd();
+        int i = this.position;
+        boolean negative = this.buffer[i] == '-';
+        if (negative || this.buffer[i] == '+') {
+            i++;
+        }
+        if (i == end) {
+            throw mismatch(end);
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = this.buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw mismatch(end);
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw mismatch(end);
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw mismatch(end);
+        }
+        this.position = end;
+        return (int) value;
+    }
+
+    /**
+     * Reads the next token as a double.
+     * @return double value
+     * @throws NoSuchElementException if the input has ended
+     * @throws InputMismatchException if the token is not a double
+     */
+    public double nextDouble() {
+        if (!skipWhitespace()) {
+            throw new NoSuchElementException();
+        }
+        int end = tokenEnd();
+        double value = parseDouble(this.buffer, this.position, end, Double.NaN);
+        if (Double.isNaN(value) && !isNaN(this.buffer, this.position, end)) {
+            throw mismatch(end);
+        }
+        this.position = end;
+        return value;
+    }
+
+    private InputMismatchException mismatch(int end) {
+        return new InputMismatchException(new String(this.buffer, this.position,
+                end - this.position, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Reads rows of doubles into columns, such as the arrival and service time of each
+     * customer.
+     * @param numColumns number of doubles in each row
+     * @param numRows number of rows to read
+     * @return numColumns arrays of numRows values
+     * @throws NoSuchElementException if the input ends before the last row
+     */
+    public double[][] nextColumns(int numColumns, int numRows) {
+        double[][] columns = new double[numColumns][numRows];
+        for (int row = 0; row < numRows; row++) {
+            for (int column = 0; column < numColumns; column++) {
+                columns[column][row] = nextDouble();
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Reads rows of doubles into columns until the next token is not a double.
+     * @param numColumns number of doubles in each row
+     * @return numColumns arrays of equal length
+     * @throws NoSuchElementException if the doubles do not fill the last row
+     */
+    public double[][] remainingColumns(int numColumns) {
+        double[] values = remainingDoubles();
+        if (values.length % numColumns != 0) {
+            throw new NoSuchElementException();
+        }
+        int numRows = values.length / numColumns;
+        double[][] columns = new double[numColumns][numRows];
+        for (int row = 0; row < numRows; row++) {
+            for (int column = 0; column < numColumns; column++) {
+                columns[column][row] = values[row * numColumns + column];
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Reads doubles until the next token is not a double, or the input ends.
+     * @return the doubles read
+     */
+    public double[] remainingDoubles() {
+        double[] values = new double[1024];
+        int size = 0;
+        while (skipWhitespace()) {
+            int end = tokenEnd();
+            double value = parseDouble(this.buffer, this.position, end, Double.NaN);
+            if (Double.isNaN(value) && !isNaN(this.buffer, this.position, end)) {
+                break;
+            }
+            this.position = end;
+            if (size == values.length) {
+                double[] grown = new double[size * 2];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            values[size] = value;
+            size++;
+        }
+        if (size == values.length) {
+            return values;
+        }
+        double[] trimmed = new double[size];
+        System.arraycopy(values, 0, trimmed, 0, size);
+        return trimmed;
+    }
+
+    private static boolean isNaN(byte[] bytes, int from, int to) {
+        int i = from;
+        if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+            i++;
+        }
+        return to - i == 3 && bytes[i] == 'N' && bytes[i + 1] == 'a' && bytes[i + 2] == 'N';
+    }
+
+    /**
+     * Parses an ASCII decimal number, such as -12.5 or 3e-4, correctly rounded.
+     * falls back to Double.parseDouble beyond the exact fast path, and for NaN and Infinity
+     * @param bytes holding the token
+     * @param from index of the first byte
+     * @param to index after the last byte
+     * @param invalid value returned if the token is not a number
+     * @return double value of the token, or invalid
+     */
+    static double parseDouble(byte[] bytes, int from, int to, double invalid) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        for (; i < to && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+            anyDigit = true;
+            if (mantissa != 0 || bytes[i] != '0') {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (bytes[i] - '0');
+                } else {
+                    exponent++;
+                }
+                digits++;
+            }
+        }
+        if (i < to && bytes[i] == '.') {
+            for (i++; i < to && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                anyDigit = true;
+                if (mantissa != 0 || bytes[i] != '0') {
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (bytes[i] - '0');
+                        exponent--;
+                    }
+                    digits++;
+                } else {
+                    exponent--;
+                }
+            }
+        }
+        if (anyDigit && i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            int j = i + 1;
+            boolean negativeExponent = false;
+            if (j < to && (bytes[j] == '-' || bytes[j] == '+')) {
+                negativeExponent = bytes[j] == '-';
+                j++;
+            }
+            int explicit = 0;
+            boolean anyExponentDigit = false;
+            for (; j < to && bytes[j] >= '0' && bytes[j] <= '9'; j++) {
+                anyExponentDigit = true;
+                explicit = Math.min(explicit * 10 + (bytes[j] - '0'), 100000);
+            }
+            if (anyExponentDigit) {
+                exponent += negativeExponent ? -explicit : explicit;
+                i = j;
+            }
+        }
+        if (!anyDigit || i != to) {
+            return parseFallback(bytes, from, to, invalid);
+        }
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (digits > MAX_EXACT_DIGITS
+                || exponent < -MAX_EXACT_POWER || exponent > MAX_EXACT_POWER) {
+            return parseFallback(bytes, from, to, invalid);
+        }
+        double value = (exponent >= 0)
+            ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
+    }
+
+    private static double parseFallback(byte[] bytes, int from, int to, double invalid) {
+        String token = new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+        String unsigned = (token.startsWith("-") || token.startsWith("+"))
+            ? token.substring(1) : token;
+        if (!unsigned.equals("NaN") && !unsigned.equals("Infinity")) {
+            /*
+             * Double.parseDouble also takes hexadecimal and suffixed forms, Scanner does not.
+             */
+            for (int i = 0; i < unsigned.length(); i++) {
+                char c = unsigned.charAt(i);
+                if (!((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E'
+                        || c == '-' || c == '+')) {
+                    return invalid;
+                }
+            }
+        }
+        try {
+            return Double.parseDouble(token);
+        } catch (NumberFormatException e) {
+            return invalid;
+        }
+    }
+}
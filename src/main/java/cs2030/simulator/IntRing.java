@@ -0,0 +1,73 @@
+package cs2030.simulator;
+
+/**
+ * Fixed-capacity FIFO ring buffer of non-negative ints, with O(1) offer and poll.
+ * The backing array starts small and doubles up to the capacity, since most queues never fill.
+ */
+class IntRing {
+
+    static final int NONE = -1;
+
+    private static final int INITIAL_LENGTH = 4;
+
+    private final int capacity;
+    private int[] values;
+    private int head;
+    private int size;
+
+    /**
+     * Constructor for an empty ring.
+     * @param capacity maximum number of values held
+     */
+    IntRing(int capacity) {
+        this.capacity = capacity;
+        this.values = new int[Math.max(1, Math.min(capacity, INITIAL_LENGTH))];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds value to the back of the ring if there is space.
+     * @param value value to add
+     * @return whether the value was added
+     */
+    boolean offer(int value) {
+        if (this.size >= this.capacity) {
+            return false;
+        }
+        if (this.size == this.values.length) {
+            grow();
+        }
+        this.values[(this.head + this.size) % this.values.length] = value;
+        this.size += 1;
+        return true;
+    }
+
+    /**
+     * Removes the value at the front of the ring.
+     * @return first value, or NONE if empty
+     */
+    int poll() {
+        if (this.size == 0) {
+            return NONE;
+        }
+        int value = this.values[this.head];
+        this.head = (this.head + 1) % this.values.length;
+        this.size -= 1;
+        return value;
+    }
+
+    private void grow() {
+        int length = (int) Math.min((long) this.values.length * 2, this.capacity);
+        int[] grown = new int[length];
+        for (int i = 0; i < this.size; i++) {
+            grown[i] = this.values[(this.head + i) % this.values.length];
+        }
+        this.values = grown;
+        this.head = 0;
+    }
+}
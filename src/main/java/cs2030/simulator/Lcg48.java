@@ -0,0 +1,47 @@
+package cs2030.simulator;
+
+/**
+ * The 48-bit linear congruential generator of java.util.Random, without its atomic seed.
+ * seeded alike, it returns the same nextDouble sequence as java.util.Random, and filling
+ * a block keeps the seed in a local variable instead of a compare-and-set per draw.
+ */
+class Lcg48 implements UniformStream {
+
+    private static final long MULTIPLIER = 0x5deece66dL;
+    private static final long ADDEND = 0xbL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private long seed;
+
+    /**
+     * Constructor, scrambling seed as java.util.Random does.
+     * @param seed seed of the equivalent java.util.Random
+     */
+    Lcg48(long seed) {
+        this.seed = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    public double nextDouble() {
+        long s = this.seed;
+        s = (s * MULTIPLIER + ADDEND) & MASK;
+        long high = s >>> (48 - 26);
+        s = (s * MULTIPLIER + ADDEND) & MASK;
+        long low = s >>> (48 - 27);
+        this.seed = s;
+        return ((high << 27) + low) * 0x1.0p-53;
+    }
+
+    @Override
+    public void nextDoubles(double[] values) {
+        long s = this.seed;
+        for (int i = 0; i < values.length; i++) {
+            s = (s * MULTIPLIER + ADDEND) & MASK;
+            long high = s >>> (48 - 26);
+            s = (s * MULTIPLIER + ADDEND) & MASK;
+            long low = s >>> (48 - 27);
+            values[i] = ((high << 27) + low) * 0x1.0p-53;
+        }
+        this.seed = s;
+    }
+}
@@ -0,0 +1,37 @@
+package cs2030.simulator;
+
+/**
+ * Levels 3 and 4, rest periods read from the input column.
+ * the restIndex moves on with every DONE event and a server rests, possibly for 0,
+ * while the column has an entry for it. a SelfCheckoutServer rests for 0 and gives its
+ * entry back to the next DONE event.
+ */
+class ListRestPolicy implements RestPolicy {
+
+    private final DoubleColumn serverRestTimes;
+    private int restIndex;
+
+    /**
+     * Constructor starting before the first entry.
+     * @param serverRestTimes server rest times, inclusive of 0
+     */
+    ListRestPolicy(DoubleColumn serverRestTimes) {
+        this.serverRestTimes = serverRestTimes;
+        this.restIndex = -1;
+    }
+
+    @Override
+    public boolean restsAfter(Server server) {
+        this.restIndex += 1;
+        return this.restIndex < this.serverRestTimes.size();
+    }
+
+    @Override
+    public double restPeriod(Server server) {
+        if (server.isSelfCheckout()) {
+            this.restIndex -= 1;
+            return 0.0;
+        }
+        return this.serverRestTimes.get(this.restIndex);
+    }
+}
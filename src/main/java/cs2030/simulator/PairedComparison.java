@@ -0,0 +1,76 @@
+package cs2030.simulator;
+
+/**
+ * Estimates of the difference between two level 5 configurations, first minus second,
+ * from replications of both run on the same seeds.
+ * with common random numbers the paired runs meet the same customers, so their results
+ * move together and the differences vary far less than either configuration does.
+ * an antithetic pair of replications adds one value, the mean of its two differences.
+ */
+public class PairedComparison {
+
+    private final Estimate averageWaitingTime;
+    private final Estimate servedCustomers;
+    private final Estimate leftCustomers;
+
+    PairedComparison() {
+        this.averageWaitingTime = new Estimate();
+        this.servedCustomers = new Estimate();
+        this.leftCustomers = new Estimate();
+    }
+
+    /**
+     * Adds the paired replications of one seed.
+     * @param first Statistics of the first configuration
+     * @param second Statistics of the second configuration
+     */
+    void add(Statistics first, Statistics second) {
+        this.averageWaitingTime.add(first.getAverageWaitingTime()
+                - second.getAverageWaitingTime());
+        this.servedCustomers.add(first.getServedCustomers() - second.getServedCustomers());
+        this.leftCustomers.add(first.getLeftCustomers() - second.getLeftCustomers());
+    }
+
+    /**
+     * Adds the paired replications of one seed and their antithetic partners.
+     * @param first Statistics of the first configuration
+     * @param second Statistics of the second configuration
+     * @param firstAntithetic Statistics of the antithetic run of the first configuration
+     * @param secondAntithetic Statistics of the antithetic run of the second configuration
+     */
+    void add(Statistics first, Statistics second, Statistics firstAntithetic,
+             Statistics secondAntithetic) {
+        this.averageWaitingTime.add((first.getAverageWaitingTime()
+                    - second.getAverageWaitingTime()
+                    + firstAntithetic.getAverageWaitingTime()
+                    - secondAntithetic.getAverageWaitingTime()) / 2);
+        this.servedCustomers.add((first.getServedCustomers() - second.getServedCustomers()
+                    + firstAntithetic.getServedCustomers()
+                    - secondAntithetic.getServedCustomers()) / 2.0);
+        this.leftCustomers.add((first.getLeftCustomers() - second.getLeftCustomers()
+                    + firstAntithetic.getLeftCustomers()
+                    - secondAntithetic.getLeftCustomers()) / 2.0);
+    }
+
+    public long getPairs() {
+        return this.averageWaitingTime.getCount();
+    }
+
+    public Estimate getAverageWaitingTime() {
+        return this.averageWaitingTime;
+    }
+
+    public Estimate getServedCustomers() {
+        return this.servedCustomers;
+    }
+
+    public Estimate getLeftCustomers() {
+        return this.leftCustomers;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("pairs %d%nwait   %s%nserved %s%nleft   %s", getPairs(),
+                this.averageWaitingTime, this.servedCustomers, this.leftCustomers);
+    }
+}
@@ -0,0 +1,261 @@
+package cs2030.simulator;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs replications of many level 5 configurations in parallel.
+ * Every replication of every SweepPoint is one ForkJoinPool task, split in halves so idle
+ * workers steal the remaining work. Runs use ArrayEngine, which matches the object model
+ * exactly, and each run hands its engine's grown buffers on to a later run of the same
+ * sweep. the engines are dropped once the sweep returns.
+ */
+public class ParameterSweep {
+
+    private final int baseSeed;
+    private final int numCustomers;
+    private final int numReplications;
+    private final SchedulerType schedulerType;
+    private VariateType variateType;
+
+    /**
+     * Constructor for the replications to run at every SweepPoint.
+     * @param baseSeed seed of replication 0, split into replications as in ReplicationRunner
+     * @param numCustomers number of Customer to generate in each replication
+     * @param numReplications number of replications of each SweepPoint
+     */
+    public ParameterSweep(int baseSeed, int numCustomers, int numReplications) {
+        this.baseSeed = baseSeed;
+        this.numCustomers = numCustomers;
+        this.numReplications = numReplications;
+        this.schedulerType = SchedulerType.HEAP;
+        this.variateType = VariateType.COMPATIBLE;
+    }
+
+    /**
+     * Chooses the random variate engine of every replication, COMPATIBLE by default.
+     * @param variateType random variate engine to draw from
+     */
+    public void setVariateType(VariateType variateType) {
+        this.variateType = variateType;
+    }
+
+    /**
+     * Every combination of the given values, the last parameter varying fastest.
+     * @param numServers values of the number of regular servers
+     * @param numSelfCheckoutServers values of the number of SelfCheckoutServer
+     * @param maxQueue values of the maximum queue length
+     * @param arrivalRate values of lambda
+     * @param serviceRate values of mu
+     * @param restingRate rho, fixed over the sweep
+     * @param probRest values of the probability of resting
+     * @param probGreedy values of the probability of a GreedyCustomer
+     * @return list of SweepPoint
+     */
+    public static List<SweepPoint> grid(int[] numServers, int[] numSelfCheckoutServers,
+                                        int[] maxQueue, double[] arrivalRate,
+                                        double[] serviceRate, double restingRate,
+                                        double[] probRest, double[] probGreedy) {
+        List<SweepPoint> points = new ArrayList<SweepPoint>();
+        for (int servers : numServers) {
+            for (int selfCheck : numSelfCheckoutServers) {
+                for (int queue : maxQueue) {
+                    for (double lambda : arrivalRate) {
+                        for (double mu : serviceRate) {
+                            for (double rest : probRest) {
+                                for (double greedy : probGreedy) {
+                                    points.add(new SweepPoint(servers, selfCheck, queue,
+                                            lambda, mu, restingRate, rest, greedy));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Latin hypercube sample between two corners.
+     * each parameter's range is cut into samples strata, and every stratum is used by
+     * exactly one SweepPoint, counts being rounded down to whole numbers
+     * @param samples number of SweepPoint to draw
+     * @param seed seed of the sample
+     * @param low lowest value of each parameter
+     * @param high highest value of each parameter, restingRate is taken from low
+     * @return list of SweepPoint
+     */
+    public static List<SweepPoint> latinHypercube(int samples, long seed,
+                                                  SweepPoint low, SweepPoint high) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[][] u = new double[7][];
+        for (int dim = 0; dim < u.length; dim++) {
+            u[dim] = stratified(samples, random);
+        }
+        List<SweepPoint> points = new ArrayList<SweepPoint>(samples);
+        for (int i = 0; i < samples; i++) {
+            points.add(new SweepPoint(
+                    between(low.getNumServers(), high.getNumServers(), u[0][i]),
+                    between(low.getNumSelfCheckoutServers(),
+                        high.getNumSelfCheckoutServers(), u[1][i]),
+                    between(low.getMaxQueue(), high.getMaxQueue(), u[2][i]),
+                    between(low.getArrivalRate(), high.getArrivalRate(), u[3][i]),
+                    between(low.getServiceRate(), high.getServiceRate(), u[4][i]),
+                    low.getRestingRate(),
+                    between(low.getProbRest(), high.getProbRest(), u[5][i]),
+                    between(low.getProbGreedy(), high.getProbGreedy(), u[6][i])));
+        }
+        return points;
+    }
+
+    /**
+     * One uniform value in each of samples equal strata of [0, 1), in random order.
+     */
+    private static double[] stratified(int samples, SplittableRandom random) {
+        double[] values = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            values[i] = (i + random.nextDouble()) / samples;
+        }
+        for (int i = samples - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static double between(double low, double high, double u) {
+        return low + (high - low) * u;
+    }
+
+    private static int between(int low, int high, double u) {
+        return Math.min(high, low + (int) ((high - low + 1) * u));
+    }
+
+    /**
+     * Runs every SweepPoint on the common ForkJoinPool.
+     * @param points configurations to run
+     * @return estimates of each SweepPoint, in the same order
+     */
+    public List<ReplicationStatistics> run(List<SweepPoint> points) {
+        return run(points, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs every SweepPoint on the given pool.
+     * replications are added in order, so results do not depend on the thread count
+     * @param points configurations to run
+     * @param pool ForkJoinPool to run the replications on
+     * @return estimates of each SweepPoint, in the same order
+     */
+    public List<ReplicationStatistics> run(List<SweepPoint> points, ForkJoinPool pool) {
+        SweepPoint[] cells = points.toArray(new SweepPoint[0]);
+        Statistics[] results = new Statistics[cells.length * this.numReplications];
+        Queue<ArrayEngine> engines = new ConcurrentLinkedQueue<ArrayEngine>();
+        pool.invoke(new SweepTask(cells, results, engines, 0, results.length));
+        List<ReplicationStatistics> summaries = new ArrayList<ReplicationStatistics>();
+        for (int cell = 0; cell < cells.length; cell++) {
+            ReplicationStatistics summary = new ReplicationStatistics();
+            for (int i = 0; i < this.numReplications; i++) {
+                summary.add(results[cell * this.numReplications + i]);
+            }
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    /**
+     * Runs one replication of a SweepPoint on the calling thread.
+     * takes over the buffers of an idle engine if there is one, and leaves its own engine
+     * idle for the next run, so there are never more engines than concurrent runs
+     * @param point configuration to run
+     * @param replication index of the replication
+     * @param engines idle ArrayEngines of the sweep, whose buffers may be taken over
+     * @return Statistics of that replication
+     */
+    Statistics runOne(SweepPoint point, int replication, Queue<ArrayEngine> engines) {
+        ArrayEngine previous = engines.poll();
+        int numRegular = point.getNumServers();
+        int numSelfCheckout = point.getNumSelfCheckoutServers();
+        ArrayEngine engine = (previous == null)
+            ? new ArrayEngine(numRegular, numSelfCheckout, point.getMaxQueue(),
+                    this.schedulerType.createTimeQueue(numRegular + numSelfCheckout + 1))
+            : new ArrayEngine(numRegular, numSelfCheckout, point.getMaxQueue(), previous);
+        VariateSource rng = this.variateType.create(this.baseSeed, replication,
+                point.getArrivalRate(), point.getServiceRate(), point.getRestingRate());
+        Statistics stats = engine.run(new RandomArrivalSource(rng, this.numCustomers,
+                    point.getProbGreedy()), null, rng, point.getProbRest(), null).toStatistics();
+        engines.offer(engine);
+        return stats;
+    }
+
+    /**
+     * Prints one row per SweepPoint, its parameters followed by the mean and 95% confidence
+     * interval half-width of average waiting time, served and left customers.
+     * @param points configurations that were run
+     * @param summaries estimates of each SweepPoint, in the same order
+     * @param out stream to print to
+     */
+    public static void printTable(List<SweepPoint> points,
+                                  List<ReplicationStatistics> summaries, PrintStream out) {
+        out.println("servers self-check max-queue lambda mu rho p-rest p-greedy reps "
+                + "wait wait-hw served served-hw left left-hw");
+        for (int i = 0; i < points.size(); i++) {
+            ReplicationStatistics summary = summaries.get(i);
+            out.println(String.format("%s %d %.3f %.3f %.1f %.1f %.1f %.1f",
+                    points.get(i), summary.getReplications(),
+                    summary.getAverageWaitingTime().getMean(),
+                    summary.getAverageWaitingTime().getHalfWidth(),
+                    summary.getServedCustomers().getMean(),
+                    summary.getServedCustomers().getHalfWidth(),
+                    summary.getLeftCustomers().getMean(),
+                    summary.getLeftCustomers().getHalfWidth()));
+        }
+    }
+
+    /**
+     * Splits a range of (SweepPoint, replication) runs in half until one is left,
+     * run i being replication i % numReplications of SweepPoint i / numReplications.
+     */
+    private class SweepTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SweepPoint[] cells;
+        private final Statistics[] results;
+        private final Queue<ArrayEngine> engines;
+        private final int from;
+        private final int to;
+
+        SweepTask(SweepPoint[] cells, Statistics[] results, Queue<ArrayEngine> engines,
+                  int from, int to) {
+            this.cells = cells;
+            this.results = results;
+            this.engines = engines;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= 1) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.results[i] = runOne(this.cells[i / numReplications],
+                            i % numReplications, this.engines);
+                }
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new SweepTask(this.cells, this.results, this.engines, this.from, mid),
+                    new SweepTask(this.cells, this.results, this.engines, mid, this.to));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package cs2030.simulator;
+
+import java.io.PrintStream;
+
+/**
+ * TraceSink printing each event as a formatted line on a PrintStream.
+ * The reference text format, used whenever the fast byte formatting cannot be.
+ */
+public class PrintTraceSink implements TraceSink {
+
+    private final PrintStream out;
+
+    /**
+     * Constructor.
+     * @param out stream to print each event on, such as System.out
+     */
+    public PrintTraceSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(EventState state, double time, int customerId, boolean greedy,
+                      int serverId, boolean selfCheckout) {
+        this.out.println(describe(state, time, customerId, greedy, serverId, selfCheckout));
+    }
+
+    @Override
+    public void flush() {
+        this.out.flush();
+    }
+
+    /**
+     * Same text as Event.toString, using Customer and Server toString formats.
+     * @param state state of the event
+     * @param time time of the event
+     * @param customerId ID of the customer
+     * @param greedy whether the customer is shown as a GreedyCustomer
+     * @param serverId ID of the server shown, or NO_SERVER
+     * @param selfCheckout whether that server is a SelfCheckoutServer
+     * @return line of the trace, without line separator
+     */
+    static String describe(EventState state, double time, int customerId, boolean greedy,
+                           int serverId, boolean selfCheckout) {
+        String name = greedy
+            ? String.format("%d(greedy)", customerId)
+            : String.format("%d", customerId);
+        String serverName = "";
+        if (serverId != NO_SERVER) {
+            serverName = selfCheckout
+                ? String.format("self-check %d", serverId)
+                : String.format("server %d", serverId);
+        }
+        switch (state) {
+            case ARRIVE:
+                return String.format("%.3f %s arrives", time, name);
+            case SERVE:
+                return String.format("%.3f %s serves by %s", time, name, serverName);
+            case WAIT:
+                return String.format("%.3f %s waits at %s", time, name, serverName);
+            case LEAVE:
+                return String.format("%.3f %s leaves", time, name);
+            case DONE:
+                return String.format("%.3f %s done serving by %s", time, name, serverName);
+            default:
+                return "SERVER REST";
+        }
+    }
+}
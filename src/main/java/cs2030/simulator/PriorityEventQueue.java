@@ -0,0 +1,36 @@
+package cs2030.simulator;
+
+import java.util.PriorityQueue;
+
+/**
+ * EventQueue backed by java.util.PriorityQueue and EventComparator.
+ * Kept as the reference scheduler that the primitive queues are checked against.
+ */
+class PriorityEventQueue implements EventQueue {
+
+    private final PriorityQueue<Event> pq;
+
+    PriorityEventQueue(int initialCapacity) {
+        this.pq = new PriorityQueue<Event>(Math.max(initialCapacity, 1), new EventComparator());
+    }
+
+    @Override
+    public void add(Event event) {
+        this.pq.add(event);
+    }
+
+    @Override
+    public Event poll() {
+        return this.pq.poll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.pq.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.pq.size();
+    }
+}
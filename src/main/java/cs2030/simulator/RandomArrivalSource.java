@@ -0,0 +1,70 @@
+package cs2030.simulator;
+
+/**
+ * ArrivalSource generating Customer/GreedyCustomer from a VariateSource, for level 5.
+ * The first customer arrives at 0.0, each later one after genInterArrivalTime.
+ * Arrival and customer type draws come from their own streams in the VariateSource,
+ * so generating them on demand gives the same customers as generating them up front.
+ */
+class RandomArrivalSource implements ArrivalSource {
+
+    /**
+     * Level 5 service times are drawn when service starts, this is only a placeholder.
+     */
+    private static final double DEFAULT_SERVICE_TIME = 1.0;
+
+    private final VariateSource rng;
+    private final int numCustomers;
+    private final double probGreedy;
+    private int customerId;
+    private double arrivalTime;
+    private boolean greedy;
+
+    RandomArrivalSource(VariateSource rng, int numCustomers, double probGreedy) {
+        this.rng = rng;
+        this.numCustomers = numCustomers;
+        this.probGreedy = probGreedy;
+        this.customerId = 0;
+        this.arrivalTime = 0.0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.customerId < this.numCustomers;
+    }
+
+    @Override
+    public void advance() {
+        this.customerId += 1;
+        if (this.customerId > 1) {
+            this.arrivalTime = this.rng.genInterArrivalTime(this.customerId)
+                + this.arrivalTime;
+        }
+        this.greedy = this.rng.genCustomerType(this.customerId) < this.probGreedy;
+    }
+
+    @Override
+    public int getCustomerId() {
+        return this.customerId;
+    }
+
+    @Override
+    public double getArrivalTime() {
+        return this.arrivalTime;
+    }
+
+    @Override
+    public double getServiceTime() {
+        return DEFAULT_SERVICE_TIME;
+    }
+
+    @Override
+    public boolean isGreedy() {
+        return this.greedy;
+    }
+
+    @Override
+    public boolean isOrdered() {
+        return true;
+    }
+}
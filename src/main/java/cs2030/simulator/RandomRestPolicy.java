@@ -0,0 +1,37 @@
+package cs2030.simulator;
+
+/**
+ * Level 5, regular servers rest with probability probRest for a random rest period.
+ * a SelfCheckoutServer never rests and draws nothing from the VariateSource.
+ */
+class RandomRestPolicy implements RestPolicy {
+
+    private final VariateSource rng;
+    private final double probRest;
+
+    /**
+     * Constructor.
+     * @param rng VariateSource of the run
+     * @param probRest probability of resting
+     */
+    RandomRestPolicy(VariateSource rng, double probRest) {
+        this.rng = rng;
+        this.probRest = probRest;
+    }
+
+    @Override
+    public boolean restsAfter(Server server) {
+        if (server.isSelfCheckout()) {
+            return false;
+        }
+        return this.rng.genRandomRest(server.getServerId()) < this.probRest;
+    }
+
+    @Override
+    public double restPeriod(Server server) {
+        if (server.isSelfCheckout()) {
+            return 0.0;
+        }
+        return this.rng.genRestPeriod(server.getServerId());
+    }
+}
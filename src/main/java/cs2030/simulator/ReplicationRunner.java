@@ -0,0 +1,344 @@
+package cs2030.simulator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs independent replications of one level 5 model in parallel.
+ * Every replication is its own Simulator run with its own VariateSource, so they share
+ * no state and are spread over the worker threads of a ForkJoinPool.
+ * replication i draws from the streams the Simulator's VariateType gives replication i.
+ * in antithetic mode, which needs COMMON variates, replications 2k and 2k + 1 are the
+ * streams of replication k and their antithetic partner, and are estimated as one pair.
+ */
+public class ReplicationRunner {
+
+    /**
+     * Replications handled by one task without splitting further.
+     */
+    private static final int LEAF_SIZE = 1;
+
+    /**
+     * Replications runUntil runs at once beyond one per worker thread, bounding the
+     * WaitTimeHistogram it holds before adding them in order.
+     */
+    private static final int MAX_BATCH = 64;
+
+    private final Simulator simulator;
+    private final int numSelfCheckoutServers;
+    private final int numCustomers;
+    private final double arrivalRate;
+    private final double serviceRate;
+    private final double restingRate;
+    private final double probRest;
+    private final double probGreedy;
+    private boolean antithetic;
+
+    /**
+     * Constructor for the level 5 model to replicate.
+     * @param simulator configured Simulator holding the servers, queue length and engine to
+     *     run, not reconfigured while the runner is in use
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param numCustomers number of Customer to generate in each replication
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @param probRest probability of resting
+     * @param probGreedy probability of a GreedyCustomer occurring
+     */
+    public ReplicationRunner(Simulator simulator, int numSelfCheckoutServers,
+                             int numCustomers, double arrivalRate, double serviceRate,
+                             double restingRate, double probRest, double probGreedy) {
+        this.simulator = simulator;
+        this.numSelfCheckoutServers = numSelfCheckoutServers;
+        this.numCustomers = numCustomers;
+        this.arrivalRate = arrivalRate;
+        this.serviceRate = serviceRate;
+        this.restingRate = restingRate;
+        this.probRest = probRest;
+        this.probGreedy = probGreedy;
+        this.antithetic = false;
+    }
+
+    /**
+     * Turns antithetic replications on or off.
+     * with antithetic replications on, replication counts are rounded to whole pairs
+     * @param antithetic true to run every replication with its antithetic partner
+     * @throws IllegalArgumentException if turned on for a Simulator whose VariateType has
+     *     no antithetic variates
+     */
+    public void setAntithetic(boolean antithetic) {
+        this.antithetic = antithetic;
+        checkVariateType();
+    }
+
+    /**
+     * Checks that the Simulator can draw antithetic replications if they are asked for,
+     * again before every run in case its VariateType has changed since.
+     */
+    private void checkVariateType() {
+        VariateType variateType = this.simulator.getVariateType();
+        if (this.antithetic && !variateType.hasAntithetic()) {
+            throw new IllegalArgumentException("antithetic replications need COMMON "
+                    + "variates, not " + variateType);
+        }
+    }
+
+    /**
+     * Runs a single replication on the calling thread, without printing events.
+     * @param baseSeed seed of replication 0
+     * @param replication index of the replication
+     * @return StatisticsAccumulator of that replication
+     */
+    StatisticsAccumulator runOne(int baseSeed, int replication) {
+        VariateType variateType = this.simulator.getVariateType();
+        VariateSource rng;
+        if (!this.antithetic) {
+            rng = variateType.create(baseSeed, replication, this.arrivalRate,
+                    this.serviceRate, this.restingRate);
+        } else if (replication % 2 == 0) {
+            rng = variateType.create(baseSeed, replication / 2, this.arrivalRate,
+                    this.serviceRate, this.restingRate);
+        } else {
+            rng = variateType.createAntithetic(baseSeed, replication / 2, this.arrivalRate,
+                    this.serviceRate, this.restingRate);
+        }
+        return this.simulator.collect(rng, this.numSelfCheckoutServers, this.numCustomers,
+                this.probRest, this.probGreedy, null, null);
+    }
+
+    /**
+     * Runs replications 0 to numReplications - 1 on the common ForkJoinPool.
+     * @param baseSeed seed of replication 0
+     * @param numReplications number of replications
+     * @return Statistics of each replication, by replication index
+     */
+    public Statistics[] runEach(int baseSeed, int numReplications) {
+        return runEach(baseSeed, numReplications, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs replications 0 to numReplications - 1 on the given pool.
+     * @param baseSeed seed of replication 0
+     * @param numReplications number of replications
+     * @param pool ForkJoinPool to run the replications on
+     * @return Statistics of each replication, by replication index
+     */
+    public Statistics[] runEach(int baseSeed, int numReplications, ForkJoinPool pool) {
+        return runRange(baseSeed, 0, numReplications, pool, null);
+    }
+
+    /**
+     * Runs replications from to to - 1 on the given pool.
+     * each replication is reduced to its Statistics as soon as it ends, keeping its
+     * WaitTimeHistogram only if asked to
+     * @param baseSeed seed of replication 0
+     * @param from index of the first replication
+     * @param to index after the last replication
+     * @param pool ForkJoinPool to run the replications on
+     * @param waitingTimes array of to - from to fill with the WaitTimeHistogram of each
+     *     replication in the same order, or null to drop them
+     * @return Statistics of each replication, result 0 being replication from
+     */
+    Statistics[] runRange(int baseSeed, int from, int to, ForkJoinPool pool,
+                          WaitTimeHistogram[] waitingTimes) {
+        checkVariateType();
+        Statistics[] results = new Statistics[to - from];
+        pool.invoke(new ReplicationTask(baseSeed, results, waitingTimes, from, from, to));
+        return results;
+    }
+
+    /**
+     * Runs replications on the common ForkJoinPool and merges their Statistics.
+     * @param baseSeed seed of replication 0
+     * @param numReplications number of replications
+     * @return merged Statistics of all replications
+     */
+    public Statistics run(int baseSeed, int numReplications) {
+        return run(baseSeed, numReplications, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs replications on the given pool and merges their Statistics.
+     * merged in replication order, so the result does not depend on the thread count
+     * @param baseSeed seed of replication 0
+     * @param numReplications number of replications
+     * @param pool ForkJoinPool to run the replications on
+     * @return merged Statistics of all replications
+     */
+    public Statistics run(int baseSeed, int numReplications, ForkJoinPool pool) {
+        Statistics total = new Statistics();
+        for (Statistics stats : runEach(baseSeed, numReplications, pool)) {
+            total = total.merge(stats);
+        }
+        return total;
+    }
+
+    /**
+     * Runs replications on the common ForkJoinPool and estimates the model from them.
+     * @param baseSeed seed of replication 0
+     * @param numReplications number of replications
+     * @return mean, variance and confidence interval of each Statistics value
+     */
+    public ReplicationStatistics summarize(int baseSeed, int numReplications) {
+        return runUntil(baseSeed, numReplications, numReplications, 0.0,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs replications on the common ForkJoinPool until the average waiting time is
+     * estimated precisely enough.
+     * @param baseSeed seed of replication 0
+     * @param minReplications number of replications to run at least
+     * @param maxReplications number of replications to run at most
+     * @param targetHalfWidth stop once the 95% confidence interval of the average waiting
+     *     time is at most this wide on each side
+     * @return mean, variance and confidence interval of each Statistics value
+     */
+    public ReplicationStatistics runUntil(int baseSeed, int minReplications,
+                                          int maxReplications, double targetHalfWidth) {
+        return runUntil(baseSeed, minReplications, maxReplications, targetHalfWidth,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs replications on the given pool until the average waiting time is estimated
+     * precisely enough.
+     * Replications run in batches of one per worker thread, or up to MAX_BATCH while fewer
+     * than minReplications have been added, and their Statistics are added
+     * in replication order, stopping at the first replication count that meets the target.
+     * Replications of the last batch after that point are dropped, so the result does not
+     * depend on the thread count. antithetic pairs are added and stopped at as one.
+     * @param baseSeed seed of replication 0
+     * @param minReplications number of replications to run at least
+     * @param maxReplications number of replications to run at most
+     * @param targetHalfWidth stop once the 95% confidence interval of the average waiting
+     *     time is at most this wide on each side
+     * @param pool ForkJoinPool to run the replications on
+     * @return mean, variance and confidence interval of each Statistics value
+     */
+    public ReplicationStatistics runUntil(int baseSeed, int minReplications,
+                                          int maxReplications, double targetHalfWidth,
+                                          ForkJoinPool pool) {
+        ReplicationStatistics summary = new ReplicationStatistics();
+        int step = this.antithetic ? 2 : 1;
+        int min = roundUp(minReplications, step);
+        int max = maxReplications / step * step;
+        int next = 0;
+        while (next < max) {
+            int batch = roundUp(Math.max(pool.getParallelism(),
+                        Math.min(MAX_BATCH, min - next)), step);
+            int to = Math.min(max, next + batch);
+            WaitTimeHistogram[] waitingTimes = new WaitTimeHistogram[to - next];
+            Statistics[] results = runRange(baseSeed, next, to, pool, waitingTimes);
+            for (int i = 0; i < results.length; i += step) {
+                if (this.antithetic) {
+                    summary.addPair(results[i], results[i + 1], waitingTimes[i],
+                            waitingTimes[i + 1]);
+                } else {
+                    summary.add(results[i], waitingTimes[i]);
+                }
+                next += step;
+                if (next >= min && summary.getAverageWaitingTime()
+                        .getHalfWidth() <= targetHalfWidth) {
+                    return summary;
+                }
+            }
+        }
+        return summary;
+    }
+
+    private static int roundUp(int replications, int step) {
+        return (replications + step - 1) / step * step;
+    }
+
+    /**
+     * Runs replications of this model and another one on the common ForkJoinPool, each
+     * replication of both on the same streams, and estimates their difference.
+     * @param other ReplicationRunner of the model to compare with, in the same mode
+     * @param baseSeed seed of replication 0
+     * @param numReplications number of replications of each model
+     * @return estimates of this model minus the other one
+     */
+    public PairedComparison compare(ReplicationRunner other, int baseSeed,
+                                    int numReplications) {
+        return compare(other, baseSeed, numReplications, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs replications of this model and another one on the given pool, each replication
+     * of both on the same streams, and estimates their difference.
+     * the comparison is sharpest with COMMON variates, under which paired runs meet the
+     * same customers whatever their servers do
+     * @param other ReplicationRunner of the model to compare with, in the same mode
+     * @param baseSeed seed of replication 0
+     * @param numReplications number of replications of each model
+     * @param pool ForkJoinPool to run the replications on
+     * @return estimates of this model minus the other one
+     */
+    public PairedComparison compare(ReplicationRunner other, int baseSeed,
+                                    int numReplications, ForkJoinPool pool) {
+        if (this.antithetic != other.antithetic) {
+            throw new IllegalArgumentException("both models must be antithetic or neither");
+        }
+        int step = this.antithetic ? 2 : 1;
+        int count = roundUp(numReplications, step);
+        Statistics[] first = runRange(baseSeed, 0, count, pool, null);
+        Statistics[] second = other.runRange(baseSeed, 0, count, pool, null);
+        PairedComparison comparison = new PairedComparison();
+        for (int i = 0; i < count; i += step) {
+            if (this.antithetic) {
+                comparison.add(first[i], second[i], first[i + 1], second[i + 1]);
+            } else {
+                comparison.add(first[i], second[i]);
+            }
+        }
+        return comparison;
+    }
+
+    /**
+     * Splits a range of replications in half until it is small enough to run,
+     * each run writing its own slot of results and waitingTimes, slot 0 being replication
+     * first.
+     */
+    private class ReplicationTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int baseSeed;
+        private final Statistics[] results;
+        private final WaitTimeHistogram[] waitingTimes;
+        private final int first;
+        private final int from;
+        private final int to;
+
+        ReplicationTask(int baseSeed, Statistics[] results, WaitTimeHistogram[] waitingTimes,
+                        int first, int from, int to) {
+            this.baseSeed = baseSeed;
+            this.results = results;
+            this.waitingTimes = waitingTimes;
+            this.first = first;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= LEAF_SIZE) {
+                for (int i = this.from; i < this.to; i++) {
+                    StatisticsAccumulator stats = runOne(this.baseSeed, i);
+                    this.results[i - this.first] = stats.toStatistics();
+                    if (this.waitingTimes != null) {
+                        this.waitingTimes[i - this.first] = stats.getWaitingTimes();
+                    }
+                }
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new ReplicationTask(this.baseSeed, this.results, this.waitingTimes,
+                        this.first, this.from, mid),
+                    new ReplicationTask(this.baseSeed, this.results, this.waitingTimes,
+                        this.first, mid, this.to));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package cs2030.simulator;
+
+/**
+ * Aggregates the Statistics of replications into estimates of
+ * average waiting time, served customers and customers who left.
+ * Replications added with their WaitTimeHistogram also pool their waiting times
+ * into one WaitTimeHistogram.
+ * an antithetic pair of replications is added as one value, the mean of the two, so the
+ * estimates count pairs while getReplications counts both runs of each.
+ */
+public class ReplicationStatistics {
+
+    private final Estimate averageWaitingTime;
+    private final Estimate servedCustomers;
+    private final Estimate leftCustomers;
+    private final WaitTimeHistogram waitingTimes;
+    private Statistics total;
+    private long replications;
+
+    ReplicationStatistics() {
+        this.averageWaitingTime = new Estimate();
+        this.servedCustomers = new Estimate();
+        this.leftCustomers = new Estimate();
+        this.waitingTimes = new WaitTimeHistogram();
+        this.total = new Statistics();
+        this.replications = 0;
+    }
+
+    /**
+     * Adds the Statistics of one replication.
+     * @param stats Statistics of the replication
+     */
+    void add(Statistics stats) {
+        this.averageWaitingTime.add(stats.getAverageWaitingTime());
+        this.servedCustomers.add(stats.getServedCustomers());
+        this.leftCustomers.add(stats.getLeftCustomers());
+        this.total = this.total.merge(stats);
+        this.replications += 1;
+    }
+
+    /**
+     * Adds one replication, pooling its waiting times.
+     * @param stats Statistics of the replication
+     * @param waitingTimes WaitTimeHistogram of the replication
+     */
+    void add(Statistics stats, WaitTimeHistogram waitingTimes) {
+        add(stats);
+        this.waitingTimes.merge(waitingTimes);
+    }
+
+    /**
+     * Adds an antithetic pair of replications, pooling their waiting times.
+     * @param first Statistics of the replication
+     * @param second Statistics of its antithetic partner
+     * @param firstWaitingTimes WaitTimeHistogram of the replication
+     * @param secondWaitingTimes WaitTimeHistogram of its antithetic partner
+     */
+    void addPair(Statistics first, Statistics second, WaitTimeHistogram firstWaitingTimes,
+                 WaitTimeHistogram secondWaitingTimes) {
+        this.averageWaitingTime.add((first.getAverageWaitingTime()
+                    + second.getAverageWaitingTime()) / 2);
+        this.servedCustomers.add((first.getServedCustomers()
+                    + second.getServedCustomers()) / 2.0);
+        this.leftCustomers.add((first.getLeftCustomers() + second.getLeftCustomers()) / 2.0);
+        this.total = this.total.merge(first).merge(second);
+        this.waitingTimes.merge(firstWaitingTimes);
+        this.waitingTimes.merge(secondWaitingTimes);
+        this.replications += 2;
+    }
+
+    public long getReplications() {
+        return this.replications;
+    }
+
+    public Estimate getAverageWaitingTime() {
+        return this.averageWaitingTime;
+    }
+
+    public Estimate getServedCustomers() {
+        return this.servedCustomers;
+    }
+
+    public Estimate getLeftCustomers() {
+        return this.leftCustomers;
+    }
+
+    /**
+     * Waiting times of all replications added with their WaitTimeHistogram.
+     * @return pooled WaitTimeHistogram
+     */
+    public WaitTimeHistogram getWaitingTimes() {
+        return this.waitingTimes;
+    }
+
+    /**
+     * Merged Statistics of all replications, as if they were one run.
+     * @return merged Statistics
+     */
+    public Statistics getTotal() {
+        return this.total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("replications %d%nwait   %s%nserved %s%nleft   %s%nwaits  %s",
+                getReplications(), this.averageWaitingTime, this.servedCustomers,
+                this.leftCustomers, this.waitingTimes);
+    }
+}
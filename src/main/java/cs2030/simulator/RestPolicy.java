@@ -0,0 +1,38 @@
+package cs2030.simulator;
+
+/**
+ * Whether, and for how long, a server rests after each service of a Simulation.
+ * restsAfter is asked once per DONE event and restPeriod once per SERVERREST event,
+ * in event order, so that policies may keep state such as the index of the next rest.
+ */
+interface RestPolicy {
+
+    /**
+     * Levels 1 and 2, servers never rest.
+     */
+    RestPolicy NEVER = new RestPolicy() {
+        @Override
+        public boolean restsAfter(Server server) {
+            return false;
+        }
+
+        @Override
+        public double restPeriod(Server server) {
+            return 0.0;
+        }
+    };
+
+    /**
+     * Whether server rests now that it has finished serving.
+     * @param server Server that just finished serving
+     * @return true if a SERVERREST event follows
+     */
+    boolean restsAfter(Server server);
+
+    /**
+     * Length of the rest server starts.
+     * @param server Server starting its rest
+     * @return rest period, 0 to be back at once
+     */
+    double restPeriod(Server server);
+}
@@ -0,0 +1,42 @@
+package cs2030.simulator;
+
+import java.nio.file.Paths;
+
+/**
+ * Converts the text input of Main1 to Main4 into a binary ScenarioFile.
+ * the text is read exactly as the Main class of its level reads it, "-" reading standard
+ * input.
+ * usage: java cs2030.simulator.ScenarioConverter level textInput scenarioFile
+ */
+public class ScenarioConverter {
+
+    public static void main(String[] args) {
+        int level = (args.length == 3) ? Integer.parseInt(args[0]) : 0;
+        if (level < 1 || level > 4) {
+            System.err.println("usage: java cs2030.simulator.ScenarioConverter "
+                    + "level(1-4) textInput scenarioFile");
+            System.exit(2);
+        }
+        InputReader in = args[1].equals("-")
+            ? InputReader.standardInput() : new InputReader(Paths.get(args[1]));
+
+        int numServers = in.nextInt();
+        int numSelfCheckoutServers = (level == 4) ? in.nextInt() : 0;
+        int maxQueue = (level == 1) ? 1 : in.nextInt();
+        int numCustomers = (level >= 3) ? in.nextInt() : 0;
+        in.skipLine();
+        double[][] customers;
+        double[] serverRestTimes = null;
+        if (level == 1) {
+            customers = new double[][] {in.remainingDoubles(), null};
+        } else if (level == 2) {
+            customers = in.remainingColumns(2);
+        } else {
+            customers = in.nextColumns(2, numCustomers);
+            serverRestTimes = in.remainingDoubles();
+        }
+        ScenarioFile.write(Paths.get(args[2]), numServers, numSelfCheckoutServers, maxQueue,
+                customers[0], customers[1], serverRestTimes);
+        System.out.println(ScenarioFile.map(Paths.get(args[2])));
+    }
+}
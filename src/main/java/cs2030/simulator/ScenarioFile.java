@@ -0,0 +1,214 @@
+package cs2030.simulator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary scenario of levels 1 to 4, its inputs stored as little-endian double columns.
+ * A 40 byte header, then the arrival times, the service times if any and the rest times
+ * if any, each numCustomers or numRests doubles long.
+ * header: int MAGIC, short VERSION, short flags, int numServers, int numSelfCheckoutServers,
+ * int maxQueue, int 0, long numCustomers, long numRests
+ * A mapped scenario reads the columns in place from the file, so replaying it copies and
+ * boxes nothing. Each column is mapped on its own and holds at most 2^28 doubles.
+ */
+public class ScenarioFile {
+
+    static final int MAGIC = 0x4e454353;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 40;
+
+    static final int SERVICE_TIMES_FLAG = 1;
+    static final int REST_TIMES_FLAG = 2;
+
+    private static final long MAX_COLUMN_SIZE = Integer.MAX_VALUE / Double.BYTES;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final int numServers;
+    private final int numSelfCheckoutServers;
+    private final int maxQueue;
+    private final DoubleColumn arrivalTimes;
+    private final DoubleColumn serviceTimes;
+    private final DoubleColumn serverRestTimes;
+
+    private ScenarioFile(int numServers, int numSelfCheckoutServers, int maxQueue,
+                         DoubleColumn arrivalTimes, DoubleColumn serviceTimes,
+                         DoubleColumn serverRestTimes) {
+        this.numServers = numServers;
+        this.numSelfCheckoutServers = numSelfCheckoutServers;
+        this.maxQueue = maxQueue;
+        this.arrivalTimes = arrivalTimes;
+        this.serviceTimes = serviceTimes;
+        this.serverRestTimes = serverRestTimes;
+    }
+
+    /**
+     * Maps a scenario file, checking its header and size.
+     * @param path file written by write
+     * @return ScenarioFile reading the mapped columns
+     */
+    public static ScenarioFile map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                continue;
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC
+                    || header.getShort() != VERSION) {
+                throw new IllegalArgumentException(path + " is not a scenario file");
+            }
+            int flags = header.getShort();
+            int numServers = header.getInt();
+            int numSelfCheckoutServers = header.getInt();
+            int maxQueue = header.getInt();
+            header.getInt();
+            long numCustomers = header.getLong();
+            long numRests = header.getLong();
+            boolean hasServiceTimes = (flags & SERVICE_TIMES_FLAG) != 0;
+            boolean hasRestTimes = (flags & REST_TIMES_FLAG) != 0;
+
+            long size = HEADER_SIZE + Double.BYTES * (numCustomers
+                    + (hasServiceTimes ? numCustomers : 0) + (hasRestTimes ? numRests : 0));
+            if (channel.size() != size) {
+                throw new IllegalArgumentException(path + " is truncated or corrupt");
+            }
+            long offset = HEADER_SIZE;
+            DoubleColumn arrivalTimes = mapColumn(channel, offset, numCustomers);
+            offset += Double.BYTES * numCustomers;
+            DoubleColumn serviceTimes = null;
+            if (hasServiceTimes) {
+                serviceTimes = mapColumn(channel, offset, numCustomers);
+                offset += Double.BYTES * numCustomers;
+            }
+            DoubleColumn serverRestTimes = hasRestTimes
+                ? mapColumn(channel, offset, numRests) : null;
+            return new ScenarioFile(numServers, numSelfCheckoutServers, maxQueue,
+                    arrivalTimes, serviceTimes, serverRestTimes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps one column, which stays valid after the channel is closed.
+     * @param channel open scenario file
+     * @param offset file position of the column
+     * @param size number of doubles in the column
+     * @return DoubleColumn reading the mapping
+     */
+    private static DoubleColumn mapColumn(FileChannel channel, long offset, long size)
+            throws IOException {
+        if (size > MAX_COLUMN_SIZE) {
+            throw new IllegalArgumentException("column of " + size + " doubles is too large");
+        }
+        return DoubleColumn.of(channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                size * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer());
+    }
+
+    /**
+     * Writes a scenario file, replacing any existing one.
+     * @param path file to write
+     * @param numServers number of regular servers
+     * @param numSelfCheckoutServers number of SelfCheckoutServer
+     * @param maxQueue maximum queue length
+     * @param arrivalTimes customer arrivalTimes
+     * @param serviceTimes customer serviceTimes, or null for level 1
+     * @param serverRestTimes server rest times, or null for levels 1 and 2
+     */
+    public static void write(Path path, int numServers, int numSelfCheckoutServers,
+                             int maxQueue, double[] arrivalTimes, double[] serviceTimes,
+                             double[] serverRestTimes) {
+        if (serviceTimes != null && serviceTimes.length != arrivalTimes.length) {
+            throw new IllegalArgumentException("every customer needs a service time");
+        }
+        int flags = ((serviceTimes == null) ? 0 : SERVICE_TIMES_FLAG)
+            | ((serverRestTimes == null) ? 0 : REST_TIMES_FLAG);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) flags)
+                .putInt(numServers).putInt(numSelfCheckoutServers).putInt(maxQueue).putInt(0)
+                .putLong(arrivalTimes.length)
+                .putLong((serverRestTimes == null) ? 0 : serverRestTimes.length);
+            writeColumn(channel, buffer, arrivalTimes);
+            writeColumn(channel, buffer, serviceTimes);
+            writeColumn(channel, buffer, serverRestTimes);
+            drain(channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeColumn(FileChannel channel, ByteBuffer buffer, double[] values)
+            throws IOException {
+        if (values == null) {
+            return;
+        }
+        for (double value : values) {
+            if (buffer.remaining() < Double.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putDouble(value);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public int getNumServers() {
+        return this.numServers;
+    }
+
+    public int getNumSelfCheckoutServers() {
+        return this.numSelfCheckoutServers;
+    }
+
+    public int getMaxQueue() {
+        return this.maxQueue;
+    }
+
+    public int getNumCustomers() {
+        return this.arrivalTimes.size();
+    }
+
+    /**
+     * Level of the scenario, following from the columns it holds.
+     * @return 1 to 4
+     */
+    public int getLevel() {
+        if (this.serverRestTimes != null) {
+            return (this.numSelfCheckoutServers > 0) ? 4 : 3;
+        }
+        return (this.serviceTimes != null) ? 2 : 1;
+    }
+
+    DoubleColumn getArrivalTimes() {
+        return this.arrivalTimes;
+    }
+
+    DoubleColumn getServiceTimes() {
+        return this.serviceTimes;
+    }
+
+    DoubleColumn getServerRestTimes() {
+        return this.serverRestTimes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("level %d scenario, %d servers, %d self-check, queue %d, "
+                + "%d customers", getLevel(), this.numServers, this.numSelfCheckoutServers,
+                this.maxQueue, getNumCustomers());
+    }
+}
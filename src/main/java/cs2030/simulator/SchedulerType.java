@@ -0,0 +1,70 @@
+package cs2030.simulator;
+
+/**
+ * Enum class for the pending event set implementations a Simulator can run on.
+ * All of them poll events in the same (time, customer ID) order.
+ */
+public enum SchedulerType {
+
+    /**
+     * java.util.PriorityQueue with EventComparator.
+     */
+    PRIORITY_QUEUE {
+        @Override
+        EventQueue create(int initialCapacity) {
+            return new PriorityEventQueue(initialCapacity);
+        }
+
+        /**
+         * There is no primitive PriorityQueue, so ArrayEngine runs on the heap instead.
+         */
+        @Override
+        TimeQueue createTimeQueue(int initialCapacity) {
+            return new EventHeap(initialCapacity);
+        }
+    },
+
+    /**
+     * Primitive 4-ary heap over parallel time, customer ID and slot arrays.
+     */
+    HEAP {
+        @Override
+        EventQueue create(int initialCapacity) {
+            return new SlotEventQueue(new EventHeap(initialCapacity), initialCapacity);
+        }
+
+        @Override
+        TimeQueue createTimeQueue(int initialCapacity) {
+            return new EventHeap(initialCapacity);
+        }
+    },
+
+    /**
+     * Calendar queue with automatic bucket width resizing, O(1) amortized per operation.
+     */
+    CALENDAR {
+        @Override
+        EventQueue create(int initialCapacity) {
+            return new SlotEventQueue(new CalendarQueue(initialCapacity), initialCapacity);
+        }
+
+        @Override
+        TimeQueue createTimeQueue(int initialCapacity) {
+            return new CalendarQueue(initialCapacity);
+        }
+    };
+
+    /**
+     * Creates an empty pending event set.
+     * @param initialCapacity expected number of pending events
+     * @return new EventQueue
+     */
+    abstract EventQueue create(int initialCapacity);
+
+    /**
+     * Creates an empty primitive queue of event slots, for ArrayEngine.
+     * @param initialCapacity expected number of pending events
+     * @return new TimeQueue
+     */
+    abstract TimeQueue createTimeQueue(int initialCapacity);
+}
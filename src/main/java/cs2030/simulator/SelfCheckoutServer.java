@@ -0,0 +1,87 @@
+package cs2030.simulator;
+
+/**
+ * SelfCheckoutServer that is child class of Server.
+ * SelfCheckoutServer shares a queue amongst all instances of a simulation and does not rest.
+ */
+class SelfCheckoutServer extends Server {
+
+    /**
+     * sharedQueue is the queue shared among all SelfCheckoutServer of the same simulation.
+     * its capacity is the maximum queue length shared among them.
+     */
+    private final SharedQueue sharedQueue;
+
+    /**
+     * Constructor for new SelfCheckoutServer, with no CustomerQueue of its own.
+     * @param id server ID
+     * @param sharedQueue queue shared among all SelfCheckoutServer of the simulation
+     */
+    SelfCheckoutServer(int id, SharedQueue sharedQueue) {
+        super(id, sharedQueue.getCapacity(), null);
+        this.sharedQueue = sharedQueue;
+    }
+
+    SharedQueue getSharedQueue() {
+        return this.sharedQueue;
+    }
+
+    /**
+     * Override in order to return capacity of sharedQueue instead.
+     * @return maximum queue length shared among all SelfCheckoutServer
+     */
+    @Override
+    public int getMaxWait() {
+        return this.sharedQueue.getCapacity();
+    }
+
+    /**
+     * Override in order to check sharedQueue instead.
+     * @return queue size
+     */
+    @Override
+    public int getQueueSize() {
+        return this.sharedQueue.size();
+    }
+
+    @Override
+    public boolean isSelfCheckout() {
+        return true;
+    }
+
+    /**
+     * Override in order to take from sharedQueue instead.
+     * the customer is removed, as another SelfCheckoutServer could otherwise take it too
+     * @return waiting customer that arrived earliest, or null if no customer is waiting
+     */
+    @Override
+    public Customer getCustomer() {
+        return this.sharedQueue.poll();
+    }
+
+    /**
+     * Override in order to update sharedQueue instead.
+     * @param customer next Customer that needs to be added
+     * @return itself
+     */
+    @Override
+    public SelfCheckoutServer addCustomer(Customer customer) {
+        this.sharedQueue.offer(customer);
+        return this;
+    }
+
+    /**
+     * Override in order to update sharedQueue instead.
+     * @return itself
+     */
+    @Override
+    public SelfCheckoutServer serveCustomer(Customer customer) {
+        this.sharedQueue.remove(customer.getCustomerId());
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("self-check %d", this.getServerId());
+    }
+}
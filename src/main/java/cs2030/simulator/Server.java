@@ -1,41 +1,38 @@
 package cs2030.simulator;
 
-import java.util.Optional;
-import java.util.ArrayList;
-
 /**
  * Server class with unique ID, its next available time, a customer queue and max queue length.
+ * a Server is updated in place, so the events that refer to it see its current state.
  */
 class Server {
 
     private final int id;
-    private final Double nextAvailableTime;
-    private final ArrayList<Customer> customerQueue;
+    private double nextAvailableTime;
+    private final CustomerQueue customerQueue;
     private final int maxWait;
 
     /**
      * Constructor for new Server.
      */
     Server(int id) {
-        this.id = id;
-        this.nextAvailableTime = 0.0;
-        this.customerQueue = new ArrayList<Customer>();
-        this.maxWait = 1;
+        this(id, 1, new CustomerQueue(1));
     }
 
     /**
      * Constructor for new Server, with specified max waiting customers.
      */
     Server(int id, int maxWait) {
-        this.id = id;
-        this.nextAvailableTime = 0.0;
-        this.customerQueue = new ArrayList<Customer>();
-        this.maxWait = maxWait;
+        this(id, maxWait, new CustomerQueue(maxWait));
     }
 
-    Server(int id, Double nextAvailableTime, ArrayList<Customer> customerQueue, int maxWait) {
+    /**
+     * Constructor for new Server with the given queue.
+     * a subclass that keeps its waiting customers elsewhere passes null, and then overrides
+     * every method that uses the queue.
+     */
+    Server(int id, int maxWait, CustomerQueue customerQueue) {
         this.id = id;
-        this.nextAvailableTime = nextAvailableTime;
+        this.nextAvailableTime = 0.0;
         this.customerQueue = customerQueue;
         this.maxWait = maxWait;
     }
@@ -44,11 +41,16 @@ class Server {
         return this.id;
     }
 
-    public Double getNextAvailableTime() {
+    public double getNextAvailableTime() {
         return this.nextAvailableTime;
     }
 
-    public ArrayList<Customer> getCustomerQueue() {
+    /**
+     * Queue of the waiting customers of this server.
+     * @return CustomerQueue, or null for a SelfCheckoutServer, whose customers wait in its
+     *     SharedQueue
+     */
+    public CustomerQueue getCustomerQueue() {
         return this.customerQueue;
     }
 
@@ -65,17 +67,11 @@ class Server {
     }
 
     /**
-     * Method that tries to fetch first customer in queue.
-     * @return first customer in queue
+     * Fetches first customer in queue, without removing it.
+     * @return first customer in queue, or null if no customer is waiting
      */
     public Customer getCustomer() {
-        Optional<Customer> result;
-        try {
-            result = Optional.ofNullable(this.getCustomerQueue().get(0));
-        } catch (Exception e) {
-            result = Optional.empty();
-        }
-        return result.orElse(new Customer(-1, 0.0));
+        return this.customerQueue.peek();
     }
 
     /**
@@ -87,7 +83,7 @@ class Server {
      * @param time Customer arrivalTime to check against
      * @return int, see above
      */
-    public int canServe(Double time) {
+    public int canServe(double time) {
         if (this.getQueueSize() >= this.getMaxWait()) {
             return -1;
         } else if (time < this.getNextAvailableTime()) {
@@ -100,37 +96,32 @@ class Server {
     /**
      * To be used to update server time, when servicing or resting.
      * @param time nextAvailableTime to set to
-     * @return new Server with updated next available time
+     * @return itself
      */
-    public Server updateTime(Double time) {
-        return new Server(this.getServerId(), time, this.getCustomerQueue(), this.getMaxWait());
+    public Server updateTime(double time) {
+        this.nextAvailableTime = time;
+        return this;
     }
 
     /**
      * Adds customer to queue if there is space.
      * @param customer next Customer that needs to be added
-     * @return new Server with customer added in queue
+     * @return itself
      */
     public Server addCustomer(Customer customer) {
         if (this.getQueueSize() < this.getMaxWait()) {
-            this.customerQueue.add(customer);
-            return new Server(this.getServerId(), this.getNextAvailableTime(),
-                    this.getCustomerQueue(), this.getMaxWait());
-        } else {
-            return this;
+            this.customerQueue.offer(customer);
         }
+        return this;
     }
 
     /**
      * To be used when server has finished serving Customer.
-     * @return new Server with updated queue
+     * @return itself
      */
     public Server serveCustomer(Customer customer) {
-        if (this.getQueueSize() > 0) {
-            this.customerQueue.remove(0);
-        }
-        return new Server(this.getServerId(), this.getNextAvailableTime(),
-                this.getCustomerQueue(), this.getMaxWait());
+        this.customerQueue.poll();
+        return this;
     }
 
     @Override
@@ -0,0 +1,228 @@
+package cs2030.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Primitive index over server state for server selection.
+ * Slots are serverId - 1, with regular servers first and SelfCheckoutServers after them.
+ * Two min segment trees over the regular servers index their next available time
+ * (for servers with queue space) and their queue size, and a third indexes the next
+ * available time of the SelfCheckoutServers, which all share one queue.
+ * This turns the first idle / first with space / shortest queue scans into O(log s) searches.
+ * Every server has the same maximum queue length.
+ */
+class ServerIndex {
+
+    private final int numRegular;
+    private final int numSelfCheckout;
+    private final int maxQueue;
+    private int sharedQueueSize;
+
+    /*
+     * Segment trees, node 1 is the root and leaves are at [leaves, 2 * leaves).
+     */
+    private final int regularLeaves;
+    private final double[] regularAvailable;
+    private final int[] regularQueue;
+    private final int selfCheckLeaves;
+    private final double[] selfCheckAvailable;
+
+    /**
+     * Constructor for idle servers with empty queues.
+     * @param numRegular number of regular servers
+     * @param numSelfCheckout number of SelfCheckoutServers
+     * @param maxQueue maximum queue length of each server, and of the shared queue
+     */
+    ServerIndex(int numRegular, int numSelfCheckout, int maxQueue) {
+        this.numRegular = numRegular;
+        this.numSelfCheckout = numSelfCheckout;
+        this.maxQueue = maxQueue;
+        this.sharedQueueSize = 0;
+        this.regularLeaves = leafCount(numRegular);
+        this.regularAvailable = new double[2 * this.regularLeaves];
+        this.regularQueue = new int[2 * this.regularLeaves];
+        Arrays.fill(this.regularAvailable, Double.POSITIVE_INFINITY);
+        Arrays.fill(this.regularQueue, Integer.MAX_VALUE);
+        this.selfCheckLeaves = leafCount(numSelfCheckout);
+        this.selfCheckAvailable = new double[2 * this.selfCheckLeaves];
+        Arrays.fill(this.selfCheckAvailable, Double.POSITIVE_INFINITY);
+        for (int slot = 0; slot < numRegular; slot++) {
+            updateRegular(slot, 0.0, 0);
+        }
+        for (int slot = numRegular; slot < numRegular + numSelfCheckout; slot++) {
+            updateSelfCheckout(slot, 0.0);
+        }
+    }
+
+    private static int leafCount(int count) {
+        int leaves = 1;
+        while (leaves < count) {
+            leaves *= 2;
+        }
+        return leaves;
+    }
+
+    int getNumRegular() {
+        return this.numRegular;
+    }
+
+    int getNumSelfCheckout() {
+        return this.numSelfCheckout;
+    }
+
+    boolean isSelfCheckout(int slot) {
+        return slot >= this.numRegular;
+    }
+
+    /**
+     * Refreshes the entry of a regular server.
+     * @param slot serverId - 1
+     * @param nextAvailableTime next available time of the server
+     * @param queueSize number of customers waiting at the server
+     */
+    void updateRegular(int slot, double nextAvailableTime, int queueSize) {
+        int node = this.regularLeaves + slot;
+        this.regularAvailable[node] = (queueSize < this.maxQueue)
+            ? nextAvailableTime : Double.POSITIVE_INFINITY;
+        this.regularQueue[node] = queueSize;
+        for (node /= 2; node > 0; node /= 2) {
+            this.regularAvailable[node] = Math.min(this.regularAvailable[2 * node],
+                    this.regularAvailable[2 * node + 1]);
+            this.regularQueue[node] = Math.min(this.regularQueue[2 * node],
+                    this.regularQueue[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Refreshes the entry of a SelfCheckoutServer.
+     * @param slot serverId - 1
+     * @param nextAvailableTime next available time of the server
+     */
+    void updateSelfCheckout(int slot, double nextAvailableTime) {
+        int node = this.selfCheckLeaves + slot - this.numRegular;
+        this.selfCheckAvailable[node] = nextAvailableTime;
+        for (node /= 2; node > 0; node /= 2) {
+            this.selfCheckAvailable[node] = Math.min(this.selfCheckAvailable[2 * node],
+                    this.selfCheckAvailable[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Refreshes the size of the queue shared by the SelfCheckoutServers.
+     * @param queueSize number of customers waiting in the shared queue
+     */
+    void updateSharedQueue(int queueSize) {
+        this.sharedQueueSize = queueSize;
+    }
+
+    /**
+     * Leftmost leaf whose time is not after the given time.
+     * @return leaf index, or -1 if none
+     */
+    private static int findAvailable(double[] tree, int leaves, int count, double time) {
+        if (count == 0 || time < tree[1]) {
+            return -1;
+        }
+        int node = 1;
+        while (node < leaves) {
+            node = 2 * node;
+            if (time < tree[node]) {
+                node += 1;
+            }
+        }
+        return (node - leaves < count) ? (node - leaves) : -1;
+    }
+
+    /**
+     * Leftmost regular server whose queue size is at most the given size.
+     * @return slot, or -1 if none
+     */
+    private int findRegularQueueAtMost(int queueSize) {
+        if (this.numRegular == 0 || this.regularQueue[1] > queueSize) {
+            return -1;
+        }
+        int node = 1;
+        while (node < this.regularLeaves) {
+            node = 2 * node;
+            if (this.regularQueue[node] > queueSize) {
+                node += 1;
+            }
+        }
+        return node - this.regularLeaves;
+    }
+
+    private boolean sharedQueueHasSpace() {
+        return this.numSelfCheckout > 0 && this.sharedQueueSize < this.maxQueue;
+    }
+
+    /**
+     * First server, in serverId order, that can serve at the given time.
+     * same as the first server with canServe(time) == 1
+     * @param time time to check against
+     * @return slot of idle server, or -1 if none
+     */
+    int findIdle(double time) {
+        int slot = findAvailable(this.regularAvailable, this.regularLeaves,
+                this.numRegular, time);
+        if (slot != -1) {
+            return slot;
+        }
+        if (sharedQueueHasSpace()) {
+            slot = findAvailable(this.selfCheckAvailable, this.selfCheckLeaves,
+                    this.numSelfCheckout, time);
+            if (slot != -1) {
+                return this.numRegular + slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns next available server.
+     * first idle server, else first server with space in its queue
+     * @param time time to check against
+     * @return slot of nearest available server, or -1 if all queues are full
+     */
+    int select(double time) {
+        int idle = findIdle(time);
+        if (idle != -1) {
+            return idle;
+        }
+        /*
+         * No server is idle, so every server with queue space has canServe(time) == 0.
+         */
+        int slot = findRegularQueueAtMost(this.maxQueue - 1);
+        if (slot != -1) {
+            return slot;
+        }
+        return sharedQueueHasSpace() ? this.numRegular : -1;
+    }
+
+    /**
+     * Returns next available server for GreedyCustomer.
+     * first idle server, else first server with space whose queue is the shortest of all
+     * @param time time to check against
+     * @return slot of nearest available server with minimum queue length, or -1 if none
+     */
+    int greedySelect(double time) {
+        int idle = findIdle(time);
+        if (idle != -1) {
+            return idle;
+        }
+        int minQueue = Integer.MAX_VALUE;
+        if (this.numRegular > 0) {
+            minQueue = this.regularQueue[1];
+        }
+        if (this.numSelfCheckout > 0) {
+            minQueue = Math.min(minQueue, this.sharedQueueSize);
+        }
+        if (minQueue >= this.maxQueue) {
+            return -1;
+        }
+        int slot = findRegularQueueAtMost(minQueue);
+        if (slot != -1) {
+            return slot;
+        }
+        return sharedQueueHasSpace() ? this.numRegular : -1;
+    }
+}
@@ -0,0 +1,102 @@
+package cs2030.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Indexed server state of a simulation.
+ * Servers are stored by slot, slot being serverId - 1, with regular servers first and
+ * SelfCheckoutServers after them, the same order as the serverList they are built from.
+ * A ServerIndex mirrors their next available times and queue sizes for server selection.
+ */
+class ServerRegistry {
+
+    private final Server[] servers;
+    private final ServerIndex index;
+
+    /**
+     * Constructor indexing the given servers.
+     * @param serverList servers with IDs 1 to n in order, SelfCheckoutServers last
+     */
+    ServerRegistry(List<Server> serverList) {
+        this.servers = serverList.toArray(new Server[0]);
+        int regular = 0;
+        while (regular < this.servers.length && !this.servers[regular].isSelfCheckout()) {
+            regular += 1;
+        }
+        for (int slot = 0; slot < this.servers.length; slot++) {
+            if (this.servers[slot].getServerId() != slot + 1
+                    || this.servers[slot].isSelfCheckout() != (slot >= regular)) {
+                throw new IllegalArgumentException("servers must have IDs 1 to n in order, "
+                        + "with SelfCheckoutServers last");
+            }
+        }
+        int maxWait = (this.servers.length == 0) ? 0 : this.servers[0].getMaxWait();
+        this.index = new ServerIndex(regular, this.servers.length - regular, maxWait);
+        for (Server server : this.servers) {
+            update(server);
+        }
+    }
+
+    int size() {
+        return this.servers.length;
+    }
+
+    /**
+     * Fetches server by slot.
+     * @param slot serverId - 1
+     * @return Server in that slot
+     */
+    Server get(int slot) {
+        return this.servers[slot];
+    }
+
+    /**
+     * Copies the servers out, in slot order.
+     * @return new list of current servers
+     */
+    List<Server> toList() {
+        List<Server> result = new ArrayList<Server>(this.servers.length);
+        for (Server server : this.servers) {
+            result.add(server);
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the server with the same serverId and refreshes its index entries.
+     * @param server updated Server
+     */
+    void update(Server server) {
+        int slot = server.getServerId() - 1;
+        this.servers[slot] = server;
+        if (server.isSelfCheckout()) {
+            this.index.updateSelfCheckout(slot, server.getNextAvailableTime());
+            this.index.updateSharedQueue(server.getQueueSize());
+        } else {
+            this.index.updateRegular(slot, server.getNextAvailableTime(), server.getQueueSize());
+        }
+    }
+
+    /**
+     * Returns next available Server.
+     * first idle server, else first server with space in its queue
+     * @param time time to check against
+     * @return nearest available Server, or null if all queues are full
+     */
+    Server select(double time) {
+        int slot = this.index.select(time);
+        return (slot == -1) ? null : this.servers[slot];
+    }
+
+    /**
+     * Returns next available Server for GreedyCustomer.
+     * first idle server, else first server with space whose queue is the shortest of all
+     * @param time time to check against
+     * @return nearest available Server with minimum queue length, or null if none
+     */
+    Server greedySelect(double time) {
+        int slot = this.index.greedySelect(time);
+        return (slot == -1) ? null : this.servers[slot];
+    }
+}
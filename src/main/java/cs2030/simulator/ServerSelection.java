@@ -0,0 +1,24 @@
+package cs2030.simulator;
+
+/**
+ * Choice of the server an arriving customer goes to in a Simulation.
+ */
+@FunctionalInterface
+interface ServerSelection {
+
+    /**
+     * First server that can serve at time, else first server with space in its queue,
+     * or for a GreedyCustomer the first server with the shortest queue.
+     */
+    ServerSelection FIRST_AVAILABLE = (servers, customer, time) -> customer.isGreedy()
+        ? servers.greedySelect(time) : servers.select(time);
+
+    /**
+     * Selects the server of an arriving customer.
+     * @param servers indexed servers of the run
+     * @param customer arriving Customer
+     * @param time arrival time
+     * @return selected Server, or null if the customer leaves
+     */
+    Server select(ServerRegistry servers, Customer customer, double time);
+}
@@ -0,0 +1,16 @@
+package cs2030.simulator;
+
+/**
+ * Service time of each customer a Simulation serves, drawn when its service starts.
+ * levels 1 to 4 read it off the customer, level 5 draws it from the VariateSource.
+ */
+@FunctionalInterface
+interface ServiceTimeSource {
+
+    /**
+     * Service time of the customer being served.
+     * @param customer Customer whose service starts
+     * @return service time
+     */
+    double serviceTime(Customer customer);
+}
@@ -0,0 +1,206 @@
+package cs2030.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Queue shared by the SelfCheckoutServers of one simulation.
+ * Customers join at their WAIT event, and WAIT events are processed in (arrivalTime, ID)
+ * order, so the queue is kept FIFO and its front is always the customer CustomerComparator
+ * ranks first. Removal by customer ID goes through a hash index of ring positions and
+ * leaves a hole that the front skips, so every operation is O(1).
+ */
+class SharedQueue {
+
+    private static final int INITIAL_LENGTH = 4;
+    private static final int EMPTY_KEY = 0;
+
+    private final int capacity;
+
+    /*
+     * Ring of customers, position p stored at p & ringMask, with null for removed customers.
+     */
+    private Customer[] ring;
+    private int ringMask;
+    private long head;
+    private long tail;
+    private int size;
+
+    /*
+     * Open addressing index from customer ID, which is positive, to ring position.
+     */
+    private int[] keys;
+    private long[] positions;
+    private int keyMask;
+
+    /**
+     * Constructor for an empty shared queue.
+     * @param capacity maximum number of waiting customers
+     */
+    SharedQueue(int capacity) {
+        this.capacity = capacity;
+        this.ring = new Customer[INITIAL_LENGTH];
+        this.ringMask = INITIAL_LENGTH - 1;
+        this.head = 0;
+        this.tail = 0;
+        this.size = 0;
+        this.keys = new int[2 * INITIAL_LENGTH];
+        this.positions = new long[2 * INITIAL_LENGTH];
+        this.keyMask = 2 * INITIAL_LENGTH - 1;
+    }
+
+    int getCapacity() {
+        return this.capacity;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds customer to the back of the queue if there is space.
+     * @param customer next Customer that needs to be added
+     * @return whether the customer was added
+     * @throws IllegalArgumentException if the customer ID is not positive
+     */
+    boolean offer(Customer customer) {
+        if (customer.getCustomerId() <= EMPTY_KEY) {
+            throw new IllegalArgumentException("customer ID " + customer.getCustomerId()
+                    + " is not positive");
+        }
+        if (this.size >= this.capacity) {
+            return false;
+        }
+        skipRemoved();
+        if (this.tail - this.head == this.ring.length) {
+            growRing();
+        }
+        if (2 * (this.size + 1) > this.keys.length) {
+            growKeys();
+        }
+        this.ring[(int) (this.tail & this.ringMask)] = customer;
+        putPosition(customer.getCustomerId(), this.tail);
+        this.tail += 1;
+        this.size += 1;
+        return true;
+    }
+
+    /**
+     * Fetches the customer that arrived earliest.
+     * @return first customer in queue, or null if empty
+     */
+    Customer peek() {
+        skipRemoved();
+        return (this.head == this.tail) ? null : this.ring[(int) (this.head & this.ringMask)];
+    }
+
+    /**
+     * Removes the customer that arrived earliest.
+     * @return first customer in queue, or null if empty
+     */
+    Customer poll() {
+        Customer customer = peek();
+        if (customer != null) {
+            this.ring[(int) (this.head & this.ringMask)] = null;
+            this.head += 1;
+            this.size -= 1;
+            removePosition(customer.getCustomerId());
+        }
+        return customer;
+    }
+
+    /**
+     * Removes a waiting customer by ID.
+     * @param customerId ID of customer to remove
+     * @return whether the customer was waiting
+     */
+    boolean remove(int customerId) {
+        int slot = findKey(customerId);
+        if (this.keys[slot] == EMPTY_KEY) {
+            return false;
+        }
+        this.ring[(int) (this.positions[slot] & this.ringMask)] = null;
+        this.size -= 1;
+        deleteKeyAt(slot);
+        return true;
+    }
+
+    private void skipRemoved() {
+        while (this.head != this.tail && this.ring[(int) (this.head & this.ringMask)] == null) {
+            this.head += 1;
+        }
+    }
+
+    /**
+     * Doubles the ring, keeping every position at p & ringMask.
+     */
+    private void growRing() {
+        Customer[] grown = new Customer[this.ring.length * 2];
+        int grownMask = grown.length - 1;
+        for (long p = this.head; p != this.tail; p++) {
+            grown[(int) (p & grownMask)] = this.ring[(int) (p & this.ringMask)];
+        }
+        this.ring = grown;
+        this.ringMask = grownMask;
+    }
+
+    private static int hash(int customerId) {
+        int h = customerId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Slot holding customerId, or the empty slot where it would go.
+     */
+    private int findKey(int customerId) {
+        int slot = hash(customerId) & this.keyMask;
+        while (this.keys[slot] != EMPTY_KEY && this.keys[slot] != customerId) {
+            slot = (slot + 1) & this.keyMask;
+        }
+        return slot;
+    }
+
+    private void putPosition(int customerId, long position) {
+        int slot = findKey(customerId);
+        this.keys[slot] = customerId;
+        this.positions[slot] = position;
+    }
+
+    private void removePosition(int customerId) {
+        int slot = findKey(customerId);
+        if (this.keys[slot] != EMPTY_KEY) {
+            deleteKeyAt(slot);
+        }
+    }
+
+    /**
+     * Linear probing deletion, shifting later entries of the probe run back into the gap.
+     */
+    private void deleteKeyAt(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & this.keyMask;
+        while (this.keys[next] != EMPTY_KEY) {
+            int home = hash(this.keys[next]) & this.keyMask;
+            if (((next - home) & this.keyMask) >= ((next - gap) & this.keyMask)) {
+                this.keys[gap] = this.keys[next];
+                this.positions[gap] = this.positions[next];
+                gap = next;
+            }
+            next = (next + 1) & this.keyMask;
+        }
+        this.keys[gap] = EMPTY_KEY;
+    }
+
+    private void growKeys() {
+        int[] oldKeys = this.keys;
+        long[] oldPositions = this.positions;
+        this.keys = new int[oldKeys.length * 2];
+        this.positions = new long[oldKeys.length * 2];
+        this.keyMask = this.keys.length - 1;
+        Arrays.fill(this.keys, EMPTY_KEY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                putPosition(oldKeys[i], oldPositions[i]);
+            }
+        }
+    }
+}
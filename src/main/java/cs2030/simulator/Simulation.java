@@ -0,0 +1,397 @@
+package cs2030.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single run of the Server/Event object model.
+ * Owns every piece of state of the run, its servers, shared self-checkout queue and
+ * pending events, so separate instances can run on separate threads.
+ * All the logic in handling events going through the EventQueue is stored here.
+ */
+class Simulation {
+
+    /**
+     * Indexed servers of this run.
+     */
+    private final ServerRegistry servers;
+    private final int numRegular;
+    private final SchedulerType schedulerType;
+
+    /**
+     * Where each processed event is written, or null to not trace them.
+     */
+    private final TraceSink out;
+
+    /**
+     * Time series of this run, or null to not record one.
+     */
+    private TimeSeriesRecorder recorder;
+
+    /**
+     * Server each arriving customer goes to.
+     */
+    private ServerSelection selection;
+
+    /**
+     * Recycles processed events into the next ones.
+     */
+    private final EventPool events;
+
+    /**
+     * Constructor to generate idle servers, SelfCheckoutServers after the regular ones.
+     * @param numServers number of regular servers to generate
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param maxQueue to set maximum queue length of each server
+     * @param schedulerType EventQueue implementation to simulate with
+     * @param out TraceSink to write each processed event to, or null
+     */
+    Simulation(int numServers, int numSelfCheckoutServers, int maxQueue,
+               SchedulerType schedulerType, TraceSink out) {
+        List<Server> serverList = new ArrayList<Server>();
+        for (int i = 1; i < (numServers + 1); i++) {
+            serverList.add(new Server(i, maxQueue));
+        }
+        SharedQueue sharedQueue = new SharedQueue(maxQueue);
+        for (int i = 0; i < numSelfCheckoutServers; i++) {
+            serverList.add(new SelfCheckoutServer(i + numServers + 1, sharedQueue));
+        }
+        this.servers = new ServerRegistry(serverList);
+        this.numRegular = numServers;
+        this.schedulerType = schedulerType;
+        this.out = out;
+        this.recorder = null;
+        this.selection = ServerSelection.FIRST_AVAILABLE;
+        this.events = new EventPool();
+    }
+
+    /**
+     * Records a time series of the run.
+     * @param recorder empty TimeSeriesRecorder sized for these servers
+     */
+    void setRecorder(TimeSeriesRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Replaces the default selection of the server of each arriving customer.
+     * @param selection ServerSelection of this run
+     */
+    void setServerSelection(ServerSelection selection) {
+        this.selection = selection;
+    }
+
+    /**
+     * Refreshes the registry entry of a server that was just updated.
+     * keeps the ServerIndex in step with its next available time and queue size
+     * @param server updated Server
+     */
+    void updateServerList(Server server) {
+        this.servers.update(server);
+        if (this.recorder != null) {
+            this.recorder.setQueueSize(server.getServerId(), server.getQueueSize());
+        }
+    }
+
+    /**
+     * Returns next available Server.
+     * first server that can serve at time, else first server with space in its queue
+     * @param time time to check against
+     * @return nearest available Server, or null if all queues are full
+     */
+    Server selectServer(double time) {
+        return this.servers.select(time);
+    }
+
+    /**
+     * Returns next available Server for GreedyCustomer.
+     * first server that can serve at time, else first server with the shortest queue
+     * @param time time to check against
+     * @return nearest available Server with minimum queue length, or null if none
+     */
+    Server greedySelectServer(double time) {
+        return this.servers.greedySelect(time);
+    }
+
+    /**
+     * Levels 1 to 4, every input read from its column.
+     * the level follows from the columns given and the SelfCheckoutServers of this run,
+     * ListRestPolicy giving their rest times back to the next DONE event in level 4.
+     * @param arrivalTimes customer arrivalTimes
+     * @param serviceTimes customer serviceTimes, or null for level 1
+     * @param serverRestTimes server rest times, inclusive of 0, or null for levels 1 and 2
+     * @return StatisticsAccumulator of the run
+     */
+    StatisticsAccumulator runColumns(DoubleColumn arrivalTimes, DoubleColumn serviceTimes,
+                                     DoubleColumn serverRestTimes) {
+        RestPolicy restPolicy = (serverRestTimes == null)
+            ? RestPolicy.NEVER : new ListRestPolicy(serverRestTimes);
+        return run(new ColumnArrivalSource(arrivalTimes, serviceTimes),
+                Customer::getServiceTime, restPolicy);
+    }
+
+    /**
+     * Level 5.
+     * Customer/GreedyCustomer are generated as the previous one arrives.
+     * @param rng VariateSource of this run
+     * @param numCustomers number of Customer to generate
+     * @param probRest probability of resting
+     * @param probGreedy probability of a GreedyCustomer occurring
+     * @return StatisticsAccumulator of the run
+     */
+    StatisticsAccumulator runLevel5(VariateSource rng, int numCustomers,
+                         double probRest, double probGreedy) {
+        return run(new RandomArrivalSource(rng, numCustomers, probGreedy),
+                customer -> rng.genServiceTime(customer.getCustomerId()),
+                new RandomRestPolicy(rng, probRest));
+    }
+
+    /**
+     * Runs the simulation, every level being a configuration of its policies.
+     * @param arrivals arriving customers
+     * @param serviceTimes service time of each served customer
+     * @param restPolicy whether and how long servers rest after each service
+     * @return StatisticsAccumulator of the run
+     */
+    StatisticsAccumulator run(ArrivalSource arrivals, ServiceTimeSource serviceTimes,
+                              RestPolicy restPolicy) {
+        /*
+         * Creates new StatisticsAccumulator and EventQueue, fed from arrivals.
+         */
+        StatisticsAccumulator stats = new StatisticsAccumulator(this.servers.size());
+        EventQueue pq = this.schedulerType.create(this.servers.size() + 1);
+        startArrivals(pq, arrivals);
+
+        /*
+         * Processing events.
+         * SERVERREST and SERVERBACK are not part of the trace.
+         */
+        while (!pq.isEmpty()) {
+            Event event = pq.poll();
+            if (this.recorder != null) {
+                this.recorder.advance(event.getTime());
+            }
+            Event nextEvent = null;
+            switch (event.getState()) {
+                case ARRIVE:
+                    scheduleArrival(pq, arrivals);
+                    nextEvent = arriveHandler(event);
+                    break;
+                case SERVE:
+                    nextEvent = serveHandler(event, serviceTimes);
+                    addServed(stats, event, nextEvent);
+                    break;
+                case DONE:
+                    nextEvent = doneHandler(event, restPolicy);
+                    break;
+                case WAIT:
+                    waitHandler(event);
+                    break;
+                case LEAVE:
+                    stats.addLeft(event.getTime(), event.getCustomer().isGreedy());
+                    break;
+                case SERVERREST:
+                    nextEvent = restHandler(event, restPolicy);
+                    break;
+                case SERVERBACK:
+                    nextEvent = serveNext(event);
+                    break;
+                default:
+                    throw new IllegalStateException("unknown event state " + event.getState());
+            }
+            if (nextEvent != null) {
+                pq.add(nextEvent);
+            }
+            if (this.out != null && !event.isServerRest() && !event.isServerBack()) {
+                trace(event);
+            }
+            if (this.recorder != null) {
+                record(event);
+            }
+            this.events.release(event);
+        }
+        return stats;
+    }
+
+    /**
+     * Records a SERVE event in the StatisticsAccumulator.
+     * @param stats StatisticsAccumulator of current simulation
+     * @param event SERVE event
+     * @param doneEvent DONE event of the same service
+     */
+    void addServed(StatisticsAccumulator stats, Event event, Event doneEvent) {
+        Customer customer = event.getCustomer();
+        stats.addServed(event.getTime() - customer.getArrivalTime(),
+                event.getServer().getServerId(), event.getTime(), doneEvent.getTime(),
+                customer.isGreedy());
+    }
+
+    /**
+     * Counts a processed event in the TimeSeriesRecorder, or updates the rest state.
+     * @param event processed event
+     */
+    void record(Event event) {
+        if (event.isArrive()) {
+            this.recorder.arrive();
+        } else if (event.isServe()) {
+            this.recorder.serve(event.getTime() - event.getCustomer().getArrivalTime());
+        } else if (event.isLeave()) {
+            this.recorder.leave();
+        } else if (event.isServerRest()) {
+            this.recorder.setResting(event.getServer().getServerId(), true);
+        } else if (event.isServerBack()) {
+            this.recorder.setResting(event.getServer().getServerId(), false);
+        }
+    }
+
+    /**
+     * Writes a processed event to the TraceSink.
+     * WAIT at a SelfCheckoutServer is shown at the first SelfCheckoutServer, which holds
+     * the shared queue
+     * @param event processed event
+     */
+    void trace(Event event) {
+        Customer customer = event.getCustomer();
+        int serverId = TraceSink.NO_SERVER;
+        boolean selfCheckout = false;
+        if (!event.isArrive() && !event.isLeave()) {
+            Server server = event.getServer();
+            selfCheckout = server.isSelfCheckout();
+            serverId = (selfCheckout && event.isWait())
+                ? this.numRegular + 1 : server.getServerId();
+        }
+        this.out.write(event.getState(), event.getTime(), customer.getCustomerId(),
+                customer.isGreedy(), serverId, selfCheckout);
+    }
+
+    /**
+     * Adds the first ARRIVE event to pq.
+     * if arrivals are not in order, adds every ARRIVE event up front instead
+     * @param pq EventQueue of current simulation
+     * @param arrivals ArrivalSource of current simulation
+     */
+    void startArrivals(EventQueue pq, ArrivalSource arrivals) {
+        if (arrivals.isOrdered()) {
+            scheduleArrival(pq, arrivals);
+        } else {
+            while (arrivals.hasNext()) {
+                scheduleArrival(pq, arrivals);
+            }
+        }
+    }
+
+    /**
+     * Adds the ARRIVE event of the next Customer to pq, if there is one.
+     * @param pq EventQueue of current simulation
+     * @param arrivals ArrivalSource of current simulation
+     */
+    void scheduleArrival(EventQueue pq, ArrivalSource arrivals) {
+        if (arrivals.hasNext()) {
+            Event nextEvent = this.events.arrive(arrivals.next());
+            pq.add(nextEvent);
+        }
+    }
+
+    /**
+     * Checks server availability based on Customer arrivalTime.
+     * generates corresponding event
+     * able to handle GreedyCustomer
+     * @param event ARRIVE event
+     * @return depending on whether servers are available, returns SERVE, WAIT or LEAVE event
+     */
+    Event arriveHandler(Event event) {
+        Customer customer = event.getCustomer();
+        double customerArrivalTime = customer.getArrivalTime();
+        Server server = this.selection.select(this.servers, customer, customerArrivalTime);
+        if (server == null) {
+            Event leaveEvent = this.events.leave(event);
+            return leaveEvent;
+        }
+        if (server.canServe(customerArrivalTime) == 1) {
+            Event serveEvent = this.events.serve(customer, customerArrivalTime, server);
+            return serveEvent;
+        } else if (server.canServe(customerArrivalTime) == 0) {
+            Event waitEvent = this.events.wait(event, server);
+            return waitEvent;
+        }
+        Event leaveEvent = this.events.leave(event);
+        return leaveEvent;
+    }
+
+    /**
+     * Updates server with waiting Customer.
+     * @param event WAIT event
+     */
+    void waitHandler(Event event) {
+        Server server = event.getServer();
+        Customer customer = event.getCustomer();
+        server = server.addCustomer(customer);
+        updateServerList(server);
+    }
+
+    /**
+     * Updates server time and generates DONE event.
+     * @param event SERVE event
+     * @param serviceTimes source of the service time
+     * @return DONE event
+     */
+    Event serveHandler(Event event, ServiceTimeSource serviceTimes) {
+        Server server = event.getServer();
+        double endTime = event.getTime() + serviceTimes.serviceTime(event.getCustomer());
+        server = server.updateTime(endTime);
+        updateServerList(server);
+        Event doneEvent = this.events.done(event, endTime);
+        return doneEvent;
+    }
+
+    /**
+     * Checks if server that just finished serving needs to rest.
+     * if yes, generates corresponding SERVERREST event
+     * if no, checks if there is a next customer
+     * @param event DONE event
+     * @param restPolicy whether the server rests
+     * @return SERVE or SERVERREST event, or null if server is left idle
+     */
+    Event doneHandler(Event event, RestPolicy restPolicy) {
+        if (restPolicy.restsAfter(event.getServer())) {
+            Event restEvent = this.events.serverRest(event, event.getTime());
+            return restEvent;
+        }
+        return serveNext(event);
+    }
+
+    /**
+     * Updates server with endRestTime.
+     * generates corresponding SERVERBACK event
+     * @param event SERVERREST event
+     * @param restPolicy length of the rest
+     * @return SERVERBACK event
+     */
+    Event restHandler(Event event, RestPolicy restPolicy) {
+        Server server = event.getServer();
+        double endRestTime = event.getTime() + restPolicy.restPeriod(server);
+        server = server.updateTime(endRestTime);
+        updateServerList(server);
+        Event backEvent = this.events.serverBack(event, endRestTime);
+        return backEvent;
+    }
+
+    /**
+     * Checks if server that just finished serving or resting has a next Customer.
+     * if yes, generates corresponding SERVE event
+     * @param event DONE or SERVERBACK event
+     * @return SERVE event, or null if server is left idle
+     */
+    Event serveNext(Event event) {
+        Server server = event.getServer();
+        Customer nextCustomer = server.getCustomer();
+        server = server.serveCustomer(event.getCustomer());
+        updateServerList(server);
+        double time = event.getTime();
+        if (nextCustomer != null) {
+            Event serveEvent = this.events.serve(nextCustomer, time, server);
+            return serveEvent;
+        }
+        return null;
+    }
+}
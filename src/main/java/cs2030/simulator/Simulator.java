@@ -0,0 +1,488 @@
+package cs2030.simulator;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Simulator class uses input from Main class to run simulation.
+ * Only holds the configuration, each call builds a new Simulation or ArrayEngine that
+ * owns all the state of that run, so one Simulator can run simulations concurrently once
+ * it is configured. The setters are not synchronized, so they must all be called before
+ * the Simulator is handed to other threads, for example by submitting runs to an executor.
+ */
+public class Simulator {
+
+    private final int numServers;
+    private final int maxQueue;
+    private final SchedulerType schedulerType;
+    private final EngineType engineType;
+
+    /**
+     * Whether each processed event is printed, the final Statistics always are.
+     */
+    private boolean traceEnabled;
+
+    /**
+     * File the trace is written to as a binary event log, or null for standard output.
+     */
+    private Path eventLog;
+
+    /**
+     * File the time series of each run is written to as CSV, or null for none.
+     */
+    private Path timeSeriesFile;
+    private double windowLength;
+    private int numWindows;
+
+    /**
+     * Random variate engine of level 5 runs.
+     */
+    private VariateType variateType;
+
+    /**
+     * Constructor to generate servers, using the primitive heap scheduler.
+     * @param numServers number of servers to generate
+     * @param maxQueue to set maximum queue length of each server
+     */
+    public Simulator(int numServers, int maxQueue) {
+        this(numServers, maxQueue, SchedulerType.HEAP);
+    }
+
+    /**
+     * Constructor to generate servers, with a chosen pending event set.
+     * @param numServers number of servers to generate
+     * @param maxQueue to set maximum queue length of each server
+     * @param schedulerType EventQueue implementation to simulate with
+     */
+    public Simulator(int numServers, int maxQueue, SchedulerType schedulerType) {
+        this(numServers, maxQueue, schedulerType, EngineType.OBJECT);
+    }
+
+    /**
+     * Constructor to generate servers, with a chosen pending event set and engine.
+     * @param numServers number of servers to generate
+     * @param maxQueue to set maximum queue length of each server
+     * @param schedulerType EventQueue implementation to simulate with
+     * @param engineType how simulation state is held
+     */
+    public Simulator(int numServers, int maxQueue, SchedulerType schedulerType,
+                     EngineType engineType) {
+        this.numServers = numServers;
+        this.maxQueue = maxQueue;
+        this.schedulerType = schedulerType;
+        this.engineType = engineType;
+        this.traceEnabled = true;
+        this.eventLog = null;
+        this.timeSeriesFile = null;
+        this.variateType = VariateType.COMPATIBLE;
+    }
+
+    int getNumServers() {
+        return this.numServers;
+    }
+
+    int getMaxQueue() {
+        return this.maxQueue;
+    }
+
+    EngineType getEngineType() {
+        return this.engineType;
+    }
+
+    VariateType getVariateType() {
+        return this.variateType;
+    }
+
+    /**
+     * Chooses the random variate engine of level 5 runs.
+     * COMPATIBLE, the default, draws the same runs as RandomGenerator for the same seed.
+     * @param variateType random variate engine to draw from
+     */
+    public void setVariateType(VariateType variateType) {
+        this.variateType = variateType;
+    }
+
+    /**
+     * Turns printing of each processed event on or off.
+     * With tracing off, no event text is built at all and only the final Statistics
+     * are printed.
+     * @param traceEnabled false to only print the final Statistics
+     */
+    public void setTraceEnabled(boolean traceEnabled) {
+        this.traceEnabled = traceEnabled;
+    }
+
+    /**
+     * Sends the trace to a binary event log instead of standard output.
+     * the final Statistics are still printed, and EventLogDecoder turns the log into text
+     * @param eventLog file to write the log to, replaced by each run, or null
+     */
+    public void setEventLog(Path eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Records a time series of each run over fixed windows of simulated time, written out
+     * as CSV once the run is over.
+     * @param windowLength simulated time covered by each window
+     * @param numWindows maximum number of windows, from time 0
+     * @param timeSeriesFile file to write the CSV to, replaced by each run, or null for none
+     */
+    public void setTimeSeries(double windowLength, int numWindows, Path timeSeriesFile) {
+        this.windowLength = windowLength;
+        this.numWindows = numWindows;
+        this.timeSeriesFile = timeSeriesFile;
+    }
+
+    /**
+     * Creates the TimeSeriesRecorder of one simulate call.
+     * @param numSelfCheckoutServers number of SelfCheckoutServer of the run
+     * @return new TimeSeriesRecorder, or null if no time series is recorded
+     */
+    private TimeSeriesRecorder newTimeSeries(int numSelfCheckoutServers) {
+        if (this.timeSeriesFile == null) {
+            return null;
+        }
+        return new TimeSeriesRecorder(this.windowLength, this.numWindows, this.numServers,
+                numSelfCheckoutServers);
+    }
+
+    /**
+     * Runs a simulation on a new ArrayEngine instead of the Server/Event objects.
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param arrivals arriving customers
+     * @param serverRestTimes server rest times, or null
+     * @param rng VariateSource for service times and rests, or null
+     * @param probRest probability of resting, with rng
+     * @param out TraceSink to write each processed event to, or null
+     * @param series TimeSeriesRecorder of the run, or null
+     * @return StatisticsAccumulator of the run
+     */
+    StatisticsAccumulator simulateArrays(int numSelfCheckoutServers, ArrivalSource arrivals,
+                                         DoubleColumn serverRestTimes, VariateSource rng,
+                                         double probRest, TraceSink out,
+                                         TimeSeriesRecorder series) {
+        int numPending = this.numServers + numSelfCheckoutServers + 1;
+        ArrayEngine engine = new ArrayEngine(this.numServers, numSelfCheckoutServers,
+                this.maxQueue, this.schedulerType.createTimeQueue(numPending));
+        engine.setRecorder(series);
+        return engine.run(arrivals, serverRestTimes, rng, probRest, out);
+    }
+
+    /**
+     * Creates the Simulation of one object model run.
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param out TraceSink to write each processed event to, or null
+     * @param series TimeSeriesRecorder of the run, or null
+     * @return new Simulation with idle servers
+     */
+    Simulation newSimulation(int numSelfCheckoutServers, TraceSink out,
+                             TimeSeriesRecorder series) {
+        Simulation simulation = new Simulation(this.numServers, numSelfCheckoutServers,
+                this.maxQueue, this.schedulerType, out);
+        simulation.setRecorder(series);
+        return simulation;
+    }
+
+    /**
+     * Creates the TraceSink of one simulate call.
+     * @return TraceSink on the event log or standard output, or null if tracing is off
+     */
+    private TraceSink newTraceSink() {
+        if (!this.traceEnabled) {
+            return null;
+        }
+        return (this.eventLog == null)
+            ? BufferedTraceSink.standardOutput() : new BinaryTraceSink(this.eventLog);
+    }
+
+    /**
+     * Closes the TraceSink of one simulate call, whether or not its run finished.
+     * @param trace TraceSink of the run, or null
+     */
+    private static void closeTraceSink(TraceSink trace) {
+        if (trace != null) {
+            trace.close();
+        }
+    }
+
+    /**
+     * Prints the final Statistics after the trace has been closed, and writes the time series.
+     * @param stats StatisticsAccumulator of the run
+     * @param series TimeSeriesRecorder of the run, or null
+     */
+    private void printStatistics(StatisticsAccumulator stats, TimeSeriesRecorder series) {
+        if (series != null) {
+            series.finish();
+            try (PrintStream csv = new PrintStream(Files.newOutputStream(this.timeSeriesFile))) {
+                series.writeCsv(csv);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        System.out.println(stats);
+    }
+
+    /**
+     * Level 1.
+     * @param arrivalTimes list of customer arrivalTimes
+     */
+    public void simulate(List<Double> arrivalTimes) {
+        simulateColumns(0, DoubleColumn.of(arrivalTimes), null, null);
+    }
+
+    /**
+     * Level 1, from primitive arrays.
+     * @param arrivalTimes customer arrivalTimes
+     */
+    public void simulate(double[] arrivalTimes) {
+        simulateColumns(0, DoubleColumn.of(arrivalTimes), null, null);
+    }
+
+    /**
+     * Level 2.
+     * @param arrivalTimes list of customer arrivalTimes
+     * @param serviceTimes list of customer serviceTimes
+     */
+    public void simulate(List<Double> arrivalTimes, List<Double> serviceTimes) {
+        simulateColumns(0, DoubleColumn.of(arrivalTimes), DoubleColumn.of(serviceTimes), null);
+    }
+
+    /**
+     * Level 2, from primitive arrays.
+     * @param arrivalTimes customer arrivalTimes
+     * @param serviceTimes customer serviceTimes
+     */
+    public void simulate(double[] arrivalTimes, double[] serviceTimes) {
+        simulateColumns(0, DoubleColumn.of(arrivalTimes), DoubleColumn.of(serviceTimes), null);
+    }
+
+    /**
+     * Level 3.
+     * @param arrivalTimes list of customer arrivalTimes
+     * @param serviceTimes list of customer serviceTimes
+     * @param serverRestTimes list of server rest times, inclusive of 0
+     */
+    public void simulate(List<Double> arrivalTimes,
+                         List<Double> serviceTimes, List<Double> serverRestTimes) {
+        simulateColumns(0, DoubleColumn.of(arrivalTimes), DoubleColumn.of(serviceTimes),
+                DoubleColumn.of(serverRestTimes));
+    }
+
+    /**
+     * Level 3, from primitive arrays.
+     * @param arrivalTimes customer arrivalTimes
+     * @param serviceTimes customer serviceTimes
+     * @param serverRestTimes server rest times, inclusive of 0
+     */
+    public void simulate(double[] arrivalTimes, double[] serviceTimes,
+                         double[] serverRestTimes) {
+        simulateColumns(0, DoubleColumn.of(arrivalTimes), DoubleColumn.of(serviceTimes),
+                DoubleColumn.of(serverRestTimes));
+    }
+
+    /**
+     * Level 4.
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param arrivalTimes list of customer arrivalTimes
+     * @param serviceTimes list of customer serviceTimes
+     * @param serverRestTimes list of server rest times, inclusive of 0
+     */
+    public void simulate(int numSelfCheckoutServers, List<Double> arrivalTimes,
+                         List<Double> serviceTimes, List<Double> serverRestTimes) {
+        simulateColumns(numSelfCheckoutServers, DoubleColumn.of(arrivalTimes),
+                DoubleColumn.of(serviceTimes), DoubleColumn.of(serverRestTimes));
+    }
+
+    /**
+     * Level 4, from primitive arrays.
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param arrivalTimes customer arrivalTimes
+     * @param serviceTimes customer serviceTimes
+     * @param serverRestTimes server rest times, inclusive of 0
+     */
+    public void simulate(int numSelfCheckoutServers, double[] arrivalTimes,
+                         double[] serviceTimes, double[] serverRestTimes) {
+        simulateColumns(numSelfCheckoutServers, DoubleColumn.of(arrivalTimes),
+                DoubleColumn.of(serviceTimes), DoubleColumn.of(serverRestTimes));
+    }
+
+    /**
+     * Levels 1 to 4, replaying a binary scenario.
+     * @param scenario ScenarioFile with this Simulator's numServers and maxQueue
+     */
+    public void simulate(ScenarioFile scenario) {
+        if (scenario.getNumServers() != this.numServers
+                || scenario.getMaxQueue() != this.maxQueue) {
+            throw new IllegalArgumentException(scenario + " needs a Simulator of "
+                    + scenario.getNumServers() + " servers and queue "
+                    + scenario.getMaxQueue());
+        }
+        simulateColumns(scenario.getNumSelfCheckoutServers(), scenario.getArrivalTimes(),
+                scenario.getServiceTimes(), scenario.getServerRestTimes());
+    }
+
+    /**
+     * Levels 1 to 4, printing the trace and Statistics.
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param arrivalTimes customer arrivalTimes
+     * @param serviceTimes customer serviceTimes, or null for level 1
+     * @param serverRestTimes server rest times, or null for levels 1 and 2
+     */
+    private void simulateColumns(int numSelfCheckoutServers, DoubleColumn arrivalTimes,
+                                 DoubleColumn serviceTimes, DoubleColumn serverRestTimes) {
+        TimeSeriesRecorder series = newTimeSeries(numSelfCheckoutServers);
+        TraceSink trace = newTraceSink();
+        StatisticsAccumulator stats;
+        try {
+            stats = collect(numSelfCheckoutServers, arrivalTimes, serviceTimes,
+                    serverRestTimes, trace, series);
+        } finally {
+            closeTraceSink(trace);
+        }
+        printStatistics(stats, series);
+    }
+
+    /**
+     * Levels 1 to 4 run returning every metric of the run.
+     * the level follows from the columns given
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param arrivalTimes customer arrivalTimes
+     * @param serviceTimes customer serviceTimes, or null for level 1
+     * @param serverRestTimes server rest times, or null for levels 1 and 2
+     * @param out TraceSink to write each processed event to, or null
+     * @param series TimeSeriesRecorder of the run, or null
+     * @return StatisticsAccumulator of the run
+     */
+    StatisticsAccumulator collect(int numSelfCheckoutServers, DoubleColumn arrivalTimes,
+                                  DoubleColumn serviceTimes, DoubleColumn serverRestTimes,
+                                  TraceSink out, TimeSeriesRecorder series) {
+        if (this.engineType == EngineType.ARRAY) {
+            return simulateArrays(numSelfCheckoutServers,
+                    new ColumnArrivalSource(arrivalTimes, serviceTimes),
+                    serverRestTimes, null, 0.0, out, series);
+        }
+        return newSimulation(numSelfCheckoutServers, out, series)
+            .runColumns(arrivalTimes, serviceTimes, serverRestTimes);
+    }
+
+    /**
+     * Level 5.
+     * @param baseSeed seed of the variate streams
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param numCustomers number of Customer to generate
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @param probRest probability of resting
+     * @param probGreedy probability of a GreedyCustomer occurring
+     */
+    public void simulate(int baseSeed, int numSelfCheckoutServers, int numCustomers,
+                         Double arrivalRate, Double serviceRate, Double restingRate,
+                         Double probRest, Double probGreedy) {
+        TimeSeriesRecorder series = newTimeSeries(numSelfCheckoutServers);
+        TraceSink trace = newTraceSink();
+        StatisticsAccumulator stats;
+        try {
+            stats = collect(baseSeed, numSelfCheckoutServers, numCustomers, arrivalRate,
+                    serviceRate, restingRate, probRest, probGreedy, trace, series);
+        } finally {
+            closeTraceSink(trace);
+        }
+        printStatistics(stats, series);
+    }
+
+    /**
+     * Level 5 run that returns its Statistics instead of printing them.
+     * Safe to call from several threads concurrently once configuration is complete and the
+     * Simulator has been safely published, every run having its own state.
+     * @param baseSeed seed of the variate streams
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param numCustomers number of Customer to generate
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @param probRest probability of resting
+     * @param probGreedy probability of a GreedyCustomer occurring
+     * @param out TraceSink to write each processed event to, or null
+     * @return Statistics of the run
+     */
+    Statistics run(int baseSeed, int numSelfCheckoutServers, int numCustomers,
+                   double arrivalRate, double serviceRate, double restingRate,
+                   double probRest, double probGreedy, TraceSink out) {
+        return collect(baseSeed, numSelfCheckoutServers, numCustomers, arrivalRate,
+                serviceRate, restingRate, probRest, probGreedy, out, null).toStatistics();
+    }
+
+    /**
+     * Level 5 run without a trace, returning every metric of the run.
+     * Safe to call from several threads concurrently once configuration is complete and the
+     * Simulator has been safely published, every run having its own state.
+     * @param baseSeed seed of the variate streams
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param numCustomers number of Customer to generate
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @param probRest probability of resting
+     * @param probGreedy probability of a GreedyCustomer occurring
+     * @return StatisticsAccumulator of the run
+     */
+    public StatisticsAccumulator collect(int baseSeed, int numSelfCheckoutServers,
+                                         int numCustomers, double arrivalRate,
+                                         double serviceRate, double restingRate,
+                                         double probRest, double probGreedy) {
+        return collect(baseSeed, numSelfCheckoutServers, numCustomers, arrivalRate,
+                serviceRate, restingRate, probRest, probGreedy, null, null);
+    }
+
+    /**
+     * Level 5 run returning every metric of the run.
+     * @param baseSeed seed of the variate streams
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param numCustomers number of Customer to generate
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @param probRest probability of resting
+     * @param probGreedy probability of a GreedyCustomer occurring
+     * @param out TraceSink to write each processed event to, or null
+     * @param series TimeSeriesRecorder of the run, or null
+     * @return StatisticsAccumulator of the run
+     */
+    StatisticsAccumulator collect(int baseSeed, int numSelfCheckoutServers, int numCustomers,
+                                  double arrivalRate, double serviceRate, double restingRate,
+                                  double probRest, double probGreedy, TraceSink out,
+                                  TimeSeriesRecorder series) {
+        return collect(this.variateType.create(baseSeed, 0, arrivalRate, serviceRate,
+                restingRate), numSelfCheckoutServers, numCustomers, probRest, probGreedy,
+                out, series);
+    }
+
+    /**
+     * Level 5 run on given variates, returning every metric of the run.
+     * @param rng VariateSource of the run, consumed by it
+     * @param numSelfCheckoutServers number of SelfCheckoutServer to generate
+     * @param numCustomers number of Customer to generate
+     * @param probRest probability of resting
+     * @param probGreedy probability of a GreedyCustomer occurring
+     * @param out TraceSink to write each processed event to, or null
+     * @param series TimeSeriesRecorder of the run, or null
+     * @return StatisticsAccumulator of the run
+     */
+    StatisticsAccumulator collect(VariateSource rng, int numSelfCheckoutServers,
+                                  int numCustomers, double probRest, double probGreedy,
+                                  TraceSink out, TimeSeriesRecorder series) {
+        if (this.engineType == EngineType.ARRAY) {
+            return simulateArrays(numSelfCheckoutServers,
+                    new RandomArrivalSource(rng, numCustomers, probGreedy),
+                    null, rng, probRest, out, series);
+        }
+        return newSimulation(numSelfCheckoutServers, out, series)
+            .runLevel5(rng, numCustomers, probRest, probGreedy);
+    }
+}
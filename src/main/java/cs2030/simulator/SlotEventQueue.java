@@ -0,0 +1,70 @@
+package cs2030.simulator;
+
+import java.util.Arrays;
+
+/**
+ * EventQueue backed by a primitive TimeQueue.
+ * Events are parked in a slot table and only their slot index goes through the TimeQueue,
+ * so ordering compares unboxed keys without touching the Event or Customer objects.
+ */
+class SlotEventQueue implements EventQueue {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final TimeQueue queue;
+    private Event[] slots;
+    private int[] freeSlots;
+    private int freeCount;
+    private int usedSlots;
+
+    SlotEventQueue(TimeQueue queue, int initialCapacity) {
+        int capacity = Math.max(initialCapacity, MIN_CAPACITY);
+        this.queue = queue;
+        this.slots = new Event[capacity];
+        this.freeSlots = new int[capacity];
+        this.freeCount = 0;
+        this.usedSlots = 0;
+    }
+
+    @Override
+    public void add(Event event) {
+        int slot;
+        if (this.freeCount > 0) {
+            this.freeCount -= 1;
+            slot = this.freeSlots[this.freeCount];
+        } else {
+            if (this.usedSlots == this.slots.length) {
+                int capacity = this.slots.length * 2;
+                this.slots = Arrays.copyOf(this.slots, capacity);
+                this.freeSlots = Arrays.copyOf(this.freeSlots, capacity);
+            }
+            slot = this.usedSlots;
+            this.usedSlots += 1;
+        }
+        this.slots[slot] = event;
+        this.queue.add(event.getTime(), event.getCustomer().getCustomerId(), slot);
+    }
+
+    @Override
+    public Event poll() {
+        if (this.queue.isEmpty()) {
+            return null;
+        }
+        int slot = this.queue.poll();
+        Event event = this.slots[slot];
+        this.slots[slot] = null;
+        this.freeSlots[this.freeCount] = slot;
+        this.freeCount += 1;
+        return event;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.queue.size();
+    }
+}
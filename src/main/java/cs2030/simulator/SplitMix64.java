@@ -0,0 +1,37 @@
+package cs2030.simulator;
+
+/**
+ * SplitMix64, a counter-based generator: value n of the stream seeded s is mix(s + n * GAMMA).
+ * any value is computed on its own, without drawing the values before it.
+ */
+final class SplitMix64 {
+
+    /**
+     * Increment between consecutive values, the odd integer closest to 2^64 / phi.
+     */
+    static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+    private SplitMix64() {
+    }
+
+    /**
+     * Value of a stream.
+     * @param seed seed of the stream
+     * @param index index of the value, from 1
+     * @return 64 random bits
+     */
+    static long value(long seed, long index) {
+        return mix(seed + index * GAMMA);
+    }
+
+    /**
+     * Finalizer of SplitMix64, a bijection spreading every input bit over the output.
+     * @param x bits to mix
+     * @return mixed bits
+     */
+    static long mix(long x) {
+        long z = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
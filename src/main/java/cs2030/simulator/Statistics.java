@@ -3,11 +3,11 @@ package cs2030.simulator;
 /**
  * Statistics class that stores the various statistics of the current simulation.
  */
-class Statistics {
+public class Statistics {
 
     private final Double totalWaitingTime;
-    private final int servedCustomers;
-    private final int leftCustomers;
+    private final long servedCustomers;
+    private final long leftCustomers;
 
     Statistics() {
         this.totalWaitingTime = 0.0;
@@ -15,7 +15,7 @@ class Statistics {
         this.leftCustomers = 0;
     }
 
-    Statistics(Double totalWaitingTime, int servedCustomers, int leftCustomers) {
+    Statistics(Double totalWaitingTime, long servedCustomers, long leftCustomers) {
         this.totalWaitingTime = totalWaitingTime;
         this.servedCustomers = servedCustomers;
         this.leftCustomers = leftCustomers;
@@ -25,11 +25,11 @@ class Statistics {
         return this.totalWaitingTime;
     }
 
-    int getServedCustomers() {
+    long getServedCustomers() {
         return this.servedCustomers;
     }
 
-    int getLeftCustomers() {
+    long getLeftCustomers() {
         return this.leftCustomers;
     }
 
@@ -43,10 +43,29 @@ class Statistics {
                 this.getServedCustomers(), this.getLeftCustomers() + 1);
     }
 
+    /**
+     * Average waiting time of served customers.
+     * @return average, or 0.0 if nobody was served
+     */
+    double getAverageWaitingTime() {
+        return (this.getServedCustomers() == 0)
+            ? 0.0 : (this.getTotalWaitingTime() / (double) this.getServedCustomers());
+    }
+
+    /**
+     * Combines the totals of two runs, as if they were one run.
+     * @param other Statistics of another run
+     * @return Statistics with summed waiting time, served and left customers
+     */
+    public Statistics merge(Statistics other) {
+        return new Statistics(this.getTotalWaitingTime() + other.getTotalWaitingTime(),
+                this.getServedCustomers() + other.getServedCustomers(),
+                this.getLeftCustomers() + other.getLeftCustomers());
+    }
+
     @Override
     public String toString() {
-        Double avgWaitingTime = (this.getServedCustomers() == 0) 
-            ? 0.0 : (this.getTotalWaitingTime() / (double) this.getServedCustomers());
+        Double avgWaitingTime = this.getAverageWaitingTime();
         return String.format("[%.3f %d %d]", avgWaitingTime, 
                 this.getServedCustomers(), this.getLeftCustomers());
     }
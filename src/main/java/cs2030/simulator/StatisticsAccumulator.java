@@ -0,0 +1,248 @@
+package cs2030.simulator;
+
+/**
+ * Mutable statistics of a single run, updated in place on every SERVE and LEAVE.
+ * Holds only primitives and arrays sized once per run, so recording an event never
+ * allocates. Besides the totals of Statistics it tracks the mean and variance of waiting
+ * time (Welford), the longest wait, a WaitTimeHistogram for quantiles, busy time per server
+ * and a breakdown by customer type.
+ */
+public class StatisticsAccumulator {
+
+    private static final int NORMAL = 0;
+    private static final int GREEDY = 1;
+
+    private double totalWaitingTime;
+    private long servedCustomers;
+    private long leftCustomers;
+
+    /*
+     * Welford running mean and sum of squared deviations of waiting time.
+     */
+    private double meanWaitingTime;
+    private double sumSquares;
+    private double maxWaitingTime;
+    private final WaitTimeHistogram waitingTimes;
+
+    /**
+     * Time of the last service completion or departure, the horizon for utilization.
+     */
+    private double endTime;
+
+    /*
+     * By server slot, serverId - 1.
+     */
+    private final double[] busyTime;
+    private final long[] servedBy;
+
+    /*
+     * By customer type, NORMAL or GREEDY.
+     */
+    private final double[] typeWaitingTime;
+    private final long[] typeServed;
+    private final long[] typeLeft;
+
+    /**
+     * Constructor for an empty run.
+     * @param numServers number of servers, regular and SelfCheckoutServers
+     */
+    StatisticsAccumulator(int numServers) {
+        this.waitingTimes = new WaitTimeHistogram();
+        this.busyTime = new double[numServers];
+        this.servedBy = new long[numServers];
+        this.typeWaitingTime = new double[2];
+        this.typeServed = new long[2];
+        this.typeLeft = new long[2];
+    }
+
+    /**
+     * Records a customer being served.
+     * @param waitingTime time from arrival to start of service
+     * @param serverId ID of the server serving the customer
+     * @param startTime time service starts
+     * @param doneTime time service ends
+     * @param greedy whether the customer is a GreedyCustomer
+     */
+    void addServed(double waitingTime, int serverId, double startTime, double doneTime,
+                   boolean greedy) {
+        this.totalWaitingTime = this.totalWaitingTime + waitingTime;
+        this.servedCustomers += 1;
+        double delta = waitingTime - this.meanWaitingTime;
+        this.meanWaitingTime += delta / this.servedCustomers;
+        this.sumSquares += delta * (waitingTime - this.meanWaitingTime);
+        this.maxWaitingTime = Math.max(this.maxWaitingTime, waitingTime);
+        this.waitingTimes.add(waitingTime);
+        this.endTime = Math.max(this.endTime, doneTime);
+        this.busyTime[serverId - 1] += doneTime - startTime;
+        this.servedBy[serverId - 1] += 1;
+        int type = greedy ? GREEDY : NORMAL;
+        this.typeWaitingTime[type] += waitingTime;
+        this.typeServed[type] += 1;
+    }
+
+    /**
+     * Records a customer leaving without being served.
+     * @param time time the customer leaves
+     * @param greedy whether the customer is a GreedyCustomer
+     */
+    void addLeft(double time, boolean greedy) {
+        this.leftCustomers += 1;
+        this.endTime = Math.max(this.endTime, time);
+        this.typeLeft[greedy ? GREEDY : NORMAL] += 1;
+    }
+
+    public double getTotalWaitingTime() {
+        return this.totalWaitingTime;
+    }
+
+    public long getServedCustomers() {
+        return this.servedCustomers;
+    }
+
+    public long getLeftCustomers() {
+        return this.leftCustomers;
+    }
+
+    /**
+     * Average waiting time, as in Statistics.
+     * @return total waiting time over served customers, or 0.0 if nobody was served
+     */
+    public double getAverageWaitingTime() {
+        return (this.servedCustomers == 0)
+            ? 0.0 : (this.totalWaitingTime / (double) this.servedCustomers);
+    }
+
+    /**
+     * Sample variance of waiting time.
+     * @return variance, or 0.0 with fewer than 2 served customers
+     */
+    public double getWaitingTimeVariance() {
+        return (this.servedCustomers < 2) ? 0.0 : this.sumSquares / (this.servedCustomers - 1);
+    }
+
+    public double getMaxWaitingTime() {
+        return this.maxWaitingTime;
+    }
+
+    /**
+     * Histogram of the waiting times of served customers.
+     * @return WaitTimeHistogram of the run
+     */
+    public WaitTimeHistogram getWaitingTimes() {
+        return this.waitingTimes;
+    }
+
+    /**
+     * Waiting time at a quantile, within the relative error of WaitTimeHistogram.
+     * @param quantile between 0 and 1, such as 0.99 for P99
+     * @return estimated waiting time
+     */
+    public double getWaitingTimeQuantile(double quantile) {
+        return this.waitingTimes.getQuantile(quantile);
+    }
+
+    public double getEndTime() {
+        return this.endTime;
+    }
+
+    public int getNumServers() {
+        return this.busyTime.length;
+    }
+
+    /**
+     * Total time a server spent serving.
+     * @param serverId ID of the server
+     * @return busy time
+     */
+    public double getBusyTime(int serverId) {
+        return this.busyTime[serverId - 1];
+    }
+
+    /**
+     * Number of customers a server served.
+     * @param serverId ID of the server
+     * @return served customers
+     */
+    public long getServedBy(int serverId) {
+        return this.servedBy[serverId - 1];
+    }
+
+    /**
+     * Fraction of the run a server spent serving.
+     * @param serverId ID of the server
+     * @return busy time over end time, or 0.0 for an empty run
+     */
+    public double getUtilization(int serverId) {
+        return (this.endTime > 0.0) ? this.busyTime[serverId - 1] / this.endTime : 0.0;
+    }
+
+    /**
+     * Served customers of one type.
+     * @param greedy true for GreedyCustomers, false for the others
+     * @return served customers of that type
+     */
+    public long getServedCustomers(boolean greedy) {
+        return this.typeServed[greedy ? GREEDY : NORMAL];
+    }
+
+    /**
+     * Customers of one type who left.
+     * @param greedy true for GreedyCustomers, false for the others
+     * @return customers of that type who left
+     */
+    public long getLeftCustomers(boolean greedy) {
+        return this.typeLeft[greedy ? GREEDY : NORMAL];
+    }
+
+    /**
+     * Average waiting time of one type of customer.
+     * @param greedy true for GreedyCustomers, false for the others
+     * @return average, or 0.0 if no customer of that type was served
+     */
+    public double getAverageWaitingTime(boolean greedy) {
+        int type = greedy ? GREEDY : NORMAL;
+        return (this.typeServed[type] == 0)
+            ? 0.0 : (this.typeWaitingTime[type] / (double) this.typeServed[type]);
+    }
+
+    /**
+     * Immutable Statistics with the same totals.
+     * @return Statistics of the run
+     */
+    public Statistics toStatistics() {
+        return new Statistics(this.totalWaitingTime, this.servedCustomers, this.leftCustomers);
+    }
+
+    /**
+     * Multi-line report of every metric.
+     * @return report, starting with the Statistics line
+     */
+    public String describe() {
+        StringBuilder report = new StringBuilder(toString());
+        report.append(String.format("%nwait mean %.3f variance %.3f max %.3f",
+                this.meanWaitingTime, getWaitingTimeVariance(), this.maxWaitingTime));
+        report.append(String.format("%nwait %s", this.waitingTimes));
+        report.append(String.format("%nnormal served %d left %d wait %.3f",
+                getServedCustomers(false), getLeftCustomers(false),
+                getAverageWaitingTime(false)));
+        report.append(String.format("%ngreedy served %d left %d wait %.3f",
+                getServedCustomers(true), getLeftCustomers(true),
+                getAverageWaitingTime(true)));
+        for (int serverId = 1; serverId <= getNumServers(); serverId++) {
+            report.append(String.format("%nserver %d served %d busy %.3f utilization %.3f",
+                    serverId, getServedBy(serverId), getBusyTime(serverId),
+                    getUtilization(serverId)));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Same line as Statistics.toString.
+     * @return [average waiting time, served customers, left customers]
+     */
+    @Override
+    public String toString() {
+        return String.format("[%.3f %d %d]", getAverageWaitingTime(),
+                this.servedCustomers, this.leftCustomers);
+    }
+}
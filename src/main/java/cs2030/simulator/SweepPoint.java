@@ -0,0 +1,79 @@
+package cs2030.simulator;
+
+/**
+ * One configuration of the level 5 model in a parameter sweep.
+ */
+public class SweepPoint {
+
+    private final int numServers;
+    private final int numSelfCheckoutServers;
+    private final int maxQueue;
+    private final double arrivalRate;
+    private final double serviceRate;
+    private final double restingRate;
+    private final double probRest;
+    private final double probGreedy;
+
+    /**
+     * Constructor for a level 5 configuration.
+     * @param numServers number of regular servers
+     * @param numSelfCheckoutServers number of SelfCheckoutServer
+     * @param maxQueue maximum queue length of each server
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @param probRest probability of resting
+     * @param probGreedy probability of a GreedyCustomer occurring
+     */
+    public SweepPoint(int numServers, int numSelfCheckoutServers, int maxQueue,
+                      double arrivalRate, double serviceRate, double restingRate,
+                      double probRest, double probGreedy) {
+        this.numServers = numServers;
+        this.numSelfCheckoutServers = numSelfCheckoutServers;
+        this.maxQueue = maxQueue;
+        this.arrivalRate = arrivalRate;
+        this.serviceRate = serviceRate;
+        this.restingRate = restingRate;
+        this.probRest = probRest;
+        this.probGreedy = probGreedy;
+    }
+
+    public int getNumServers() {
+        return this.numServers;
+    }
+
+    public int getNumSelfCheckoutServers() {
+        return this.numSelfCheckoutServers;
+    }
+
+    public int getMaxQueue() {
+        return this.maxQueue;
+    }
+
+    public double getArrivalRate() {
+        return this.arrivalRate;
+    }
+
+    public double getServiceRate() {
+        return this.serviceRate;
+    }
+
+    public double getRestingRate() {
+        return this.restingRate;
+    }
+
+    public double getProbRest() {
+        return this.probRest;
+    }
+
+    public double getProbGreedy() {
+        return this.probGreedy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d %d %d %.3f %.3f %.3f %.3f %.3f", this.numServers,
+                this.numSelfCheckoutServers, this.maxQueue, this.arrivalRate,
+                this.serviceRate, this.restingRate, this.probRest, this.probGreedy);
+    }
+}
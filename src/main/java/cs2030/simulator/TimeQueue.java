@@ -0,0 +1,20 @@
+package cs2030.simulator;
+
+/**
+ * Priority queue of int payloads keyed by primitive (time, customer ID) pairs.
+ * Payloads are opaque to the queue, usually a slot index into an event table.
+ */
+interface TimeQueue {
+
+    void add(double time, int customerId, int payload);
+
+    /**
+     * Removes the entry with the earliest (time, customer ID) key.
+     * @return payload of removed entry
+     */
+    int poll();
+
+    boolean isEmpty();
+
+    int size();
+}
@@ -0,0 +1,244 @@
+package cs2030.simulator;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Per-window time series of a run, over fixed windows of simulated time.
+ * Counts arrivals, serves, leaves and waiting time of the events in each window, and
+ * samples the queue size of every regular server, the size of the shared self-checkout
+ * queue and whether each server is resting, as they are at the end of each window.
+ * Everything is held in arrays allocated up front, events after the last window are only
+ * counted as dropped.
+ */
+public class TimeSeriesRecorder {
+
+    private final double windowLength;
+    private final int numWindows;
+    private final int numRegular;
+    private final int numServers;
+
+    /*
+     * By window.
+     */
+    private final int[] arrivals;
+    private final int[] serves;
+    private final int[] leaves;
+    private final double[] totalWaitingTime;
+
+    /*
+     * By window * queueColumns + column, regular servers then the shared queue.
+     */
+    private final int queueColumns;
+    private final int[] queueSizes;
+
+    /*
+     * By window * numServers + slot.
+     */
+    private final boolean[] resting;
+
+    /*
+     * Current state, sampled at the end of each window.
+     */
+    private final int[] currentQueueSizes;
+    private final boolean[] currentResting;
+
+    private int window;
+    private double windowEnd;
+    private long dropped;
+
+    /**
+     * Constructor for an empty series.
+     * @param windowLength simulated time covered by each window
+     * @param numWindows number of windows, from time 0
+     * @param numRegular number of regular servers
+     * @param numSelfCheckout number of SelfCheckoutServers
+     */
+    public TimeSeriesRecorder(double windowLength, int numWindows, int numRegular,
+                              int numSelfCheckout) {
+        if (!(windowLength > 0.0) || numWindows < 1) {
+            throw new IllegalArgumentException("need a positive window length and count");
+        }
+        this.windowLength = windowLength;
+        this.numWindows = numWindows;
+        this.numRegular = numRegular;
+        this.numServers = numRegular + numSelfCheckout;
+        this.arrivals = new int[numWindows];
+        this.serves = new int[numWindows];
+        this.leaves = new int[numWindows];
+        this.totalWaitingTime = new double[numWindows];
+        this.queueColumns = numRegular + 1;
+        this.queueSizes = new int[numWindows * this.queueColumns];
+        this.resting = new boolean[numWindows * this.numServers];
+        this.currentQueueSizes = new int[this.queueColumns];
+        this.currentResting = new boolean[this.numServers];
+        this.window = 0;
+        this.windowEnd = windowLength;
+        this.dropped = 0;
+    }
+
+    /**
+     * Moves to the window of an event about to be processed, sampling every window that
+     * ends at or before its time.
+     * @param time time of the event
+     */
+    void advance(double time) {
+        while (time >= this.windowEnd && this.window < this.numWindows) {
+            sample();
+            this.window += 1;
+            this.windowEnd = this.windowLength * (this.window + 1);
+        }
+    }
+
+    private void sample() {
+        System.arraycopy(this.currentQueueSizes, 0, this.queueSizes,
+                this.window * this.queueColumns, this.queueColumns);
+        System.arraycopy(this.currentResting, 0, this.resting,
+                this.window * this.numServers, this.numServers);
+    }
+
+    private boolean inRange() {
+        if (this.window < this.numWindows) {
+            return true;
+        }
+        this.dropped += 1;
+        return false;
+    }
+
+    void arrive() {
+        if (inRange()) {
+            this.arrivals[this.window] += 1;
+        }
+    }
+
+    void serve(double waitingTime) {
+        if (inRange()) {
+            this.serves[this.window] += 1;
+            this.totalWaitingTime[this.window] += waitingTime;
+        }
+    }
+
+    void leave() {
+        if (inRange()) {
+            this.leaves[this.window] += 1;
+        }
+    }
+
+    /**
+     * Updates the current queue size of a server.
+     * @param serverId ID of the server, any SelfCheckoutServer for the shared queue
+     * @param queueSize number of customers waiting
+     */
+    void setQueueSize(int serverId, int queueSize) {
+        this.currentQueueSizes[Math.min(serverId - 1, this.numRegular)] = queueSize;
+    }
+
+    /**
+     * Updates whether a server is resting.
+     * @param serverId ID of the server
+     * @param isResting true from SERVERREST until SERVERBACK
+     */
+    void setResting(int serverId, boolean isResting) {
+        this.currentResting[serverId - 1] = isResting;
+    }
+
+    /**
+     * Samples the window of the last event, once the run is over.
+     */
+    void finish() {
+        if (this.window < this.numWindows) {
+            sample();
+        }
+    }
+
+    /**
+     * Number of windows reached by the run.
+     * @return windows up to and including the one of the last event
+     */
+    public int getWindows() {
+        return Math.min(this.window + 1, this.numWindows);
+    }
+
+    public long getDropped() {
+        return this.dropped;
+    }
+
+    public int getArrivals(int window) {
+        return this.arrivals[window];
+    }
+
+    public int getServes(int window) {
+        return this.serves[window];
+    }
+
+    public int getLeaves(int window) {
+        return this.leaves[window];
+    }
+
+    /**
+     * Average waiting time of customers served in a window.
+     * @param window index of the window
+     * @return average, or 0.0 if nobody was served
+     */
+    public double getAverageWaitingTime(int window) {
+        return (this.serves[window] == 0)
+            ? 0.0 : this.totalWaitingTime[window] / this.serves[window];
+    }
+
+    /**
+     * Queue size of a server at the end of a window.
+     * @param window index of the window
+     * @param serverId ID of the server, any SelfCheckoutServer for the shared queue
+     * @return number of customers waiting
+     */
+    public int getQueueSize(int window, int serverId) {
+        return this.queueSizes[window * this.queueColumns
+            + Math.min(serverId - 1, this.numRegular)];
+    }
+
+    /**
+     * Whether a server was resting at the end of a window.
+     * @param window index of the window
+     * @param serverId ID of the server
+     * @return true if resting
+     */
+    public boolean isResting(int window, int serverId) {
+        return this.resting[window * this.numServers + serverId - 1];
+    }
+
+    /**
+     * Writes the series as CSV, one row per window reached.
+     * columns: window start, arrivals, serves, leaves, average wait, queue size of each
+     * regular server, shared queue size if there are SelfCheckoutServers, then 1 for each
+     * resting server and 0 otherwise
+     * @param out stream to write to
+     */
+    public void writeCsv(PrintStream out) {
+        boolean hasShared = this.numServers > this.numRegular;
+        StringBuilder header = new StringBuilder("start,arrivals,serves,leaves,avg_wait");
+        for (int serverId = 1; serverId <= this.numRegular; serverId++) {
+            header.append(",queue_").append(serverId);
+        }
+        if (hasShared) {
+            header.append(",queue_shared");
+        }
+        for (int serverId = 1; serverId <= this.numServers; serverId++) {
+            header.append(",rest_").append(serverId);
+        }
+        out.println(header);
+        StringBuilder row = new StringBuilder();
+        for (int w = 0; w < getWindows(); w++) {
+            row.setLength(0);
+            row.append(String.format(Locale.ROOT, "%.3f,%d,%d,%d,%.3f", this.windowLength * w,
+                    getArrivals(w), getServes(w), getLeaves(w), getAverageWaitingTime(w)));
+            int columns = hasShared ? this.queueColumns : this.numRegular;
+            for (int column = 0; column < columns; column++) {
+                row.append(',').append(this.queueSizes[w * this.queueColumns + column]);
+            }
+            for (int slot = 0; slot < this.numServers; slot++) {
+                row.append(',').append(this.resting[w * this.numServers + slot] ? 1 : 0);
+            }
+            out.println(row);
+        }
+    }
+}
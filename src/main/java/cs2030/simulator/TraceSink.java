@@ -0,0 +1,38 @@
+package cs2030.simulator;
+
+/**
+ * Destination of the trace of processed events.
+ * Events are passed as primitives, so a sink can format them without an Event or Server.
+ */
+public interface TraceSink {
+
+    /**
+     * ServerId passed for events that are not at a server.
+     */
+    int NO_SERVER = -1;
+
+    /**
+     * Records one processed event, printed as Event.toString would.
+     * @param state state of the event, SERVERREST and SERVERBACK are not passed
+     * @param time time of the event
+     * @param customerId ID of the customer
+     * @param greedy whether the customer is shown as a GreedyCustomer
+     * @param serverId ID of the server shown, or NO_SERVER
+     * @param selfCheckout whether that server is a SelfCheckoutServer
+     */
+    void write(EventState state, double time, int customerId, boolean greedy,
+               int serverId, boolean selfCheckout);
+
+    /**
+     * Writes out anything still buffered.
+     */
+    void flush();
+
+    /**
+     * Finishes the trace of a run, flushing it and releasing what the sink owns.
+     * the stream or channel of a sink on standard output stays open
+     */
+    default void close() {
+        flush();
+    }
+}
@@ -0,0 +1,20 @@
+package cs2030.simulator;
+
+/**
+ * Stream of uniform variates in [0, 1), one at a time or a block at once.
+ * a block holds exactly the variates the same number of nextDouble calls would return.
+ */
+interface UniformStream {
+
+    /**
+     * Next uniform variate.
+     * @return uniform variate in [0, 1)
+     */
+    double nextDouble();
+
+    /**
+     * Fills values with the next values.length uniform variates, in stream order.
+     * @param values array to fill
+     */
+    void nextDoubles(double[] values);
+}
@@ -0,0 +1,48 @@
+package cs2030.simulator;
+
+/**
+ * Random variates of a level 5 run, each kind drawn from its own stream.
+ * draws of one kind never shift the draws of another, so that, for example, a server
+ * resting does not change the service times of later customers.
+ * every draw names the customer or server it is for. sequential sources ignore it and
+ * return the next value of the stream, common random number sources key the draw on it,
+ * so that a customer gets the same variates whichever server it meets.
+ */
+interface VariateSource {
+
+    /**
+     * Exponential time between the arrival of a customer and the one before it, with the
+     * arrival rate lambda.
+     * @param customerId customer arriving
+     * @return inter-arrival time
+     */
+    double genInterArrivalTime(int customerId);
+
+    /**
+     * Exponential service time, with the service rate mu.
+     * @param customerId customer being served
+     * @return service time
+     */
+    double genServiceTime(int customerId);
+
+    /**
+     * Uniform draw in [0, 1) deciding whether a server rests.
+     * @param serverId server that is done serving
+     * @return uniform variate
+     */
+    double genRandomRest(int serverId);
+
+    /**
+     * Exponential rest period, with the resting rate rho.
+     * @param serverId server starting to rest
+     * @return rest period
+     */
+    double genRestPeriod(int serverId);
+
+    /**
+     * Uniform draw in [0, 1) deciding whether a customer is greedy.
+     * @param customerId customer arriving
+     * @return uniform variate
+     */
+    double genCustomerType(int customerId);
+}
@@ -0,0 +1,117 @@
+package cs2030.simulator;
+
+/**
+ * Enum class for the random variate engines a Simulator can draw level 5 runs from.
+ */
+public enum VariateType {
+
+    /**
+     * Same sequences as RandomGenerator, replication i seeded baseSeed + 6i.
+     */
+    COMPATIBLE {
+        @Override
+        VariateSource create(int baseSeed, int replication, double arrivalRate,
+                             double serviceRate, double restingRate) {
+            return new CompatibleVariates(CompatibleVariates.seedOf(baseSeed, replication),
+                    arrivalRate, serviceRate, restingRate);
+        }
+    },
+
+    /**
+     * xoshiro256++ streams, replications and kinds of variate split by jump-ahead.
+     */
+    XOSHIRO {
+        @Override
+        VariateSource create(int baseSeed, int replication, double arrivalRate,
+                             double serviceRate, double restingRate) {
+            return new XoshiroVariates(baseSeed, replication, arrivalRate, serviceRate,
+                    restingRate);
+        }
+    },
+
+    /**
+     * COMPATIBLE variates, generated in blocks.
+     */
+    COMPATIBLE_BLOCK {
+        @Override
+        VariateSource create(int baseSeed, int replication, double arrivalRate,
+                             double serviceRate, double restingRate) {
+            return BlockVariates.compatible(CompatibleVariates.seedOf(baseSeed, replication),
+                    arrivalRate, serviceRate, restingRate);
+        }
+    },
+
+    /**
+     * XOSHIRO variates, generated in blocks.
+     */
+    XOSHIRO_BLOCK {
+        @Override
+        VariateSource create(int baseSeed, int replication, double arrivalRate,
+                             double serviceRate, double restingRate) {
+            return BlockVariates.xoshiro(baseSeed, replication, arrivalRate, serviceRate,
+                    restingRate);
+        }
+    },
+
+    /**
+     * Common random numbers, every draw keyed on its customer or server, with antithetic
+     * replications.
+     */
+    COMMON {
+        @Override
+        VariateSource create(int baseSeed, int replication, double arrivalRate,
+                             double serviceRate, double restingRate) {
+            return new CommonVariates(baseSeed, replication, arrivalRate, serviceRate,
+                    restingRate, false);
+        }
+
+        @Override
+        VariateSource createAntithetic(int baseSeed, int replication, double arrivalRate,
+                                       double serviceRate, double restingRate) {
+            return new CommonVariates(baseSeed, replication, arrivalRate, serviceRate,
+                    restingRate, true);
+        }
+
+        @Override
+        public boolean hasAntithetic() {
+            return true;
+        }
+    };
+
+    /**
+     * Creates the variates of one replication.
+     * @param baseSeed seed of replication 0
+     * @param replication index of the replication
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @return VariateSource of that replication
+     */
+    abstract VariateSource create(int baseSeed, int replication, double arrivalRate,
+                                  double serviceRate, double restingRate);
+
+    /**
+     * Whether createAntithetic is supported, only COMMON variates lying on a grid that
+     * u to 1 - u maps onto itself.
+     * @return true if antithetic replications can be drawn
+     */
+    public boolean hasAntithetic() {
+        return false;
+    }
+
+    /**
+     * Creates the antithetic partner of one replication, drawing 1 - u for every uniform u
+     * the replication draws.
+     * @param baseSeed seed of replication 0
+     * @param replication index of the replication
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     * @return antithetic VariateSource of that replication
+     * @throws UnsupportedOperationException unless hasAntithetic
+     */
+    VariateSource createAntithetic(int baseSeed, int replication, double arrivalRate,
+                                   double serviceRate, double restingRate) {
+        throw new UnsupportedOperationException(this + " variates have no antithetic mode");
+    }
+}
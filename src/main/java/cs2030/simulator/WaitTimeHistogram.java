@@ -0,0 +1,116 @@
+package cs2030.simulator;
+
+/**
+ * Constant-memory histogram of waiting times with log-linear buckets, for quantiles.
+ * Each power of two between MIN_VALUE and MAX_VALUE is split into 2^SUB_BUCKET_BITS equal
+ * buckets, taken straight from the exponent and top mantissa bits of the double, so a
+ * reported quantile is within 1 / 2^(SUB_BUCKET_BITS + 1) of the true value, relatively.
+ * Waits below MIN_VALUE count as zero and waits above MAX_VALUE fall in the last bucket.
+ * Histograms of separate runs merge by adding their counts.
+ */
+public class WaitTimeHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int MANTISSA_BITS = 52;
+    private static final double MIN_VALUE = 0x1p-20;
+    private static final double MAX_VALUE = 0x1p36;
+
+    private static final long FIRST_KEY = key(MIN_VALUE);
+    private static final int NUM_BUCKETS = (int) (key(MAX_VALUE) - FIRST_KEY);
+
+    /**
+     * Bucket 0 holds waits below MIN_VALUE, bucket i + 1 the log-linear bucket i.
+     */
+    private final long[] counts;
+    private long count;
+    private double max;
+
+    public WaitTimeHistogram() {
+        this.counts = new long[NUM_BUCKETS + 1];
+        this.count = 0;
+        this.max = 0.0;
+    }
+
+    private static long key(double value) {
+        return Double.doubleToRawLongBits(value) >>> (MANTISSA_BITS - SUB_BUCKET_BITS);
+    }
+
+    private static int bucketOf(double value) {
+        if (!(value >= MIN_VALUE)) {
+            return 0;
+        }
+        if (value >= MAX_VALUE) {
+            return NUM_BUCKETS;
+        }
+        return (int) (key(value) - FIRST_KEY) + 1;
+    }
+
+    /**
+     * Midpoint of a bucket, 0.0 for the zero bucket.
+     */
+    private static double valueOf(int bucket) {
+        if (bucket == 0) {
+            return 0.0;
+        }
+        long low = (FIRST_KEY + bucket - 1) << (MANTISSA_BITS - SUB_BUCKET_BITS);
+        long high = (FIRST_KEY + bucket) << (MANTISSA_BITS - SUB_BUCKET_BITS);
+        return (Double.longBitsToDouble(low) + Double.longBitsToDouble(high)) / 2;
+    }
+
+    /**
+     * Records one waiting time.
+     * @param waitingTime non-negative waiting time
+     */
+    void add(double waitingTime) {
+        this.counts[bucketOf(waitingTime)] += 1;
+        this.count += 1;
+        this.max = Math.max(this.max, waitingTime);
+    }
+
+    /**
+     * Adds the counts of another histogram to this one.
+     * @param other histogram of another run
+     */
+    public void merge(WaitTimeHistogram other) {
+        for (int i = 0; i < this.counts.length; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.count += other.count;
+        this.max = Math.max(this.max, other.max);
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public double getMax() {
+        return this.max;
+    }
+
+    /**
+     * Waiting time at a quantile, by nearest rank.
+     * @param quantile between 0 and 1, such as 0.99 for P99
+     * @return estimated waiting time, never above the max, or 0.0 if empty
+     */
+    public double getQuantile(double quantile) {
+        if (this.count == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * this.count));
+        long seen = 0;
+        for (int bucket = 0; bucket < this.counts.length; bucket++) {
+            seen += this.counts[bucket];
+            if (seen >= rank) {
+                return Math.min(valueOf(bucket), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50 %.3f p90 %.3f p95 %.3f p99 %.3f max %.3f",
+                getQuantile(0.5), getQuantile(0.9), getQuantile(0.95), getQuantile(0.99),
+                getMax());
+    }
+}
@@ -0,0 +1,221 @@
+package cs2030.simulator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * xoshiro256++ generator, with jump functions to split its period into disjoint streams.
+ * jump advances by 2^128 draws and longJump by 2^192, so 2^64 replications of up to 2^64
+ * streams each never overlap.
+ */
+class Xoshiro256 implements UniformStream {
+
+    private static final long[] JUMP = {
+        0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL
+    };
+    private static final long[] LONG_JUMP = {
+        0x76e15d3efefdcbbfL, 0xc5004e441c522fb3L, 0x77710069854ee241L, 0x39109bb02acbe635L
+    };
+
+    /**
+     * Replication bases of the most recently used seeds.
+     */
+    private static final int CACHED_SEEDS = 16;
+    private static final Map<Long, ReplicationBases> BASES =
+        new LinkedHashMap<Long, ReplicationBases>(CACHED_SEEDS, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ReplicationBases> eldest) {
+                return size() > CACHED_SEEDS;
+            }
+        };
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    /**
+     * Constructor expanding seed into the state with SplitMix64, so no state is all zero.
+     * @param seed any seed
+     */
+    Xoshiro256(long seed) {
+        this.s0 = SplitMix64.value(seed, 1);
+        this.s1 = SplitMix64.value(seed, 2);
+        this.s2 = SplitMix64.value(seed, 3);
+        this.s3 = SplitMix64.value(seed, 4);
+    }
+
+    /**
+     * Constructor from a raw state, as the reference implementation is seeded.
+     * @param s0 first word of the state
+     * @param s1 second word of the state
+     * @param s2 third word of the state
+     * @param s3 fourth word of the state, the four words not all zero
+     */
+    Xoshiro256(long s0, long s1, long s2, long s3) {
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    private Xoshiro256(Xoshiro256 other) {
+        this.s0 = other.s0;
+        this.s1 = other.s1;
+        this.s2 = other.s2;
+        this.s3 = other.s3;
+    }
+
+    /**
+     * Streams of one replication, replication i starting i long jumps after seed and
+     * each of its streams one jump after the previous one.
+     * the start of every replication is cached per seed, each one long jump after the one
+     * before, so that the streams of N replications take N long jumps rather than N^2 / 2.
+     * @param seed seed of replication 0
+     * @param replication index of the replication
+     * @param count number of streams
+     * @return count disjoint streams
+     */
+    static Xoshiro256[] streams(long seed, int replication, int count) {
+        ReplicationBases bases;
+        synchronized (BASES) {
+            bases = BASES.get(seed);
+            if (bases == null) {
+                bases = new ReplicationBases(seed);
+                BASES.put(seed, bases);
+            }
+        }
+        Xoshiro256 generator = bases.get(replication);
+        Xoshiro256[] streams = new Xoshiro256[count];
+        for (int i = 0; i < count; i++) {
+            streams[i] = generator.copy();
+            generator.jump();
+        }
+        return streams;
+    }
+
+    /**
+     * Copy continuing the same stream.
+     * @return new Xoshiro256 in the same state
+     */
+    Xoshiro256 copy() {
+        return new Xoshiro256(this);
+    }
+
+    long nextLong() {
+        long result = Long.rotateLeft(this.s0 + this.s3, 23) + this.s0;
+        long t = this.s1 << 17;
+        this.s2 ^= this.s0;
+        this.s3 ^= this.s1;
+        this.s1 ^= this.s2;
+        this.s0 ^= this.s3;
+        this.s2 ^= t;
+        this.s3 = Long.rotateLeft(this.s3, 45);
+        return result;
+    }
+
+    /**
+     * Uniform draw from the top 53 bits.
+     * @return uniform variate in [0, 1)
+     */
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Fills a block of uniform draws, the state held in local variables throughout.
+     * @param values array to fill
+     */
+    @Override
+    public void nextDoubles(double[] values) {
+        long x0 = this.s0;
+        long x1 = this.s1;
+        long x2 = this.s2;
+        long x3 = this.s3;
+        for (int i = 0; i < values.length; i++) {
+            long result = Long.rotateLeft(x0 + x3, 23) + x0;
+            long t = x1 << 17;
+            x2 ^= x0;
+            x3 ^= x1;
+            x1 ^= x2;
+            x0 ^= x3;
+            x2 ^= t;
+            x3 = Long.rotateLeft(x3, 45);
+            values[i] = (result >>> 11) * 0x1.0p-53;
+        }
+        this.s0 = x0;
+        this.s1 = x1;
+        this.s2 = x2;
+        this.s3 = x3;
+    }
+
+    /**
+     * Advances by 2^128 draws.
+     */
+    void jump() {
+        jump(JUMP);
+    }
+
+    /**
+     * Advances by 2^192 draws.
+     */
+    void longJump() {
+        jump(LONG_JUMP);
+    }
+
+    private void jump(long[] polynomial) {
+        long t0 = 0;
+        long t1 = 0;
+        long t2 = 0;
+        long t3 = 0;
+        for (long word : polynomial) {
+            for (int b = 0; b < 64; b++) {
+                if ((word & (1L << b)) != 0) {
+                    t0 ^= this.s0;
+                    t1 ^= this.s1;
+                    t2 ^= this.s2;
+                    t3 ^= this.s3;
+                }
+                nextLong();
+            }
+        }
+        this.s0 = t0;
+        this.s1 = t1;
+        this.s2 = t2;
+        this.s3 = t3;
+    }
+
+    /**
+     * Generators 0, 1, 2, ... long jumps after a seed, extended on demand.
+     */
+    private static final class ReplicationBases {
+        private final List<Xoshiro256> bases;
+
+        ReplicationBases(long seed) {
+            this.bases = new ArrayList<Xoshiro256>();
+            this.bases.add(new Xoshiro256(seed));
+        }
+
+        /**
+         * Generator at the start of a replication.
+         * @param replication index of the replication
+         * @return new Xoshiro256 replication long jumps after the seed
+         */
+        synchronized Xoshiro256 get(int replication) {
+            if (replication < 0) {
+                throw new IllegalArgumentException("replication " + replication);
+            }
+            while (this.bases.size() <= replication) {
+                Xoshiro256 next = this.bases.get(this.bases.size() - 1).copy();
+                next.longJump();
+                this.bases.add(next);
+            }
+            return this.bases.get(replication).copy();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package cs2030.simulator;
+
+/**
+ * VariateSource on xoshiro256++ streams split by jump-ahead.
+ * the generator seeded with baseSeed is moved on by one longJump per replication, and each
+ * kind of variate takes its own stream from there, one jump apart, so no two streams of
+ * any replications overlap. exponential variates use 1 - u, which is never 0.
+ */
+class XoshiroVariates implements VariateSource {
+
+    /**
+     * Streams of one replication, arrival, service, rest, rest period and customer type.
+     */
+    static final int NUM_STREAMS = 5;
+
+    private final Xoshiro256 arrival;
+    private final Xoshiro256 service;
+    private final Xoshiro256 rest;
+    private final Xoshiro256 restPeriod;
+    private final Xoshiro256 customerType;
+    private final double arrivalRate;
+    private final double serviceRate;
+    private final double restingRate;
+
+    /**
+     * Constructor.
+     * @param baseSeed seed of replication 0
+     * @param replication index of the replication
+     * @param arrivalRate parameter for the arrival rate, lambda
+     * @param serviceRate parameter for the service rate, mu
+     * @param restingRate parameter for the resting rate, rho
+     */
+    XoshiroVariates(int baseSeed, int replication, double arrivalRate, double serviceRate,
+                    double restingRate) {
+        Xoshiro256[] streams = Xoshiro256.streams(baseSeed, replication, NUM_STREAMS);
+        this.arrival = streams[0];
+        this.service = streams[1];
+        this.rest = streams[2];
+        this.restPeriod = streams[3];
+        this.customerType = streams[4];
+        this.arrivalRate = arrivalRate;
+        this.serviceRate = serviceRate;
+        this.restingRate = restingRate;
+    }
+
+    @Override
+    public double genInterArrivalTime(int customerId) {
+        return -Math.log(1.0 - this.arrival.nextDouble()) / this.arrivalRate;
+    }
+
+    @Override
+    public double genServiceTime(int customerId) {
+        return -Math.log(1.0 - this.service.nextDouble()) / this.serviceRate;
+    }
+
+    @Override
+    public double genRandomRest(int serverId) {
+        return this.rest.nextDouble();
+    }
+
+    @Override
+    public double genRestPeriod(int serverId) {
+        return -Math.log(1.0 - this.restPeriod.nextDouble()) / this.restingRate;
+    }
+
+    @Override
+    public double genCustomerType(int customerId) {
+        return this.customerType.nextDouble();
+    }
+}
@@ -0,0 +1,146 @@
+package cs2030.simulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks CalendarQueue against a java.util.PriorityQueue of the same (time, customer ID)
+ * keys, through growing and shrinking resizes, ties, and sparse calendars whose entries
+ * lie more than a year of buckets apart.
+ */
+class CalendarQueueTest {
+
+    /**
+     * Entry of the reference queue, payloads being unique indices into the entries added.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final double time;
+        private final int customerId;
+        private final int payload;
+
+        Entry(double time, int customerId, int payload) {
+            this.time = time;
+            this.customerId = customerId;
+            this.payload = payload;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (this.time != other.time) {
+                return Double.compare(this.time, other.time);
+            }
+            if (this.customerId != other.customerId) {
+                return Integer.compare(this.customerId, other.customerId);
+            }
+            return Integer.compare(this.payload, other.payload);
+        }
+    }
+
+    private final List<Entry> added = new ArrayList<Entry>();
+
+    @Test
+    void pollOnEmptyQueueThrows() {
+        CalendarQueue queue = new CalendarQueue(0);
+        assertTrue(queue.isEmpty());
+        assertThrows(IllegalStateException.class, queue::poll);
+    }
+
+    @Test
+    void drainsAnUnorderedLoadInKeyOrder() {
+        Random random = new Random(1);
+        CalendarQueue queue = new CalendarQueue(4);
+        PriorityQueue<Entry> reference = new PriorityQueue<Entry>();
+        for (int i = 0; i < 20000; i++) {
+            double time = Math.round(random.nextDouble() * 5000.0) / 10.0;
+            add(queue, reference, new Entry(time, i + 1, i));
+        }
+        drain(queue, reference);
+    }
+
+    @Test
+    void matchesPriorityQueueUnderSimulationLikeChurn() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 20; trial++) {
+            CalendarQueue queue = new CalendarQueue(1 + random.nextInt(64));
+            PriorityQueue<Entry> reference = new PriorityQueue<Entry>();
+            this.added.clear();
+            double now = 0.0;
+            int payload = 0;
+            /*
+             * Grows to a few thousand pending entries, then shrinks back, so the calendar
+             * resizes both ways. Times sit on a grid so that keys tie on time often.
+             */
+            int target = 1 + random.nextInt(4000);
+            for (int step = 0; step < 30000; step++) {
+                boolean grow = (step < 15000)
+                    ? reference.size() < target : random.nextInt(3) == 0;
+                if (grow || reference.isEmpty()) {
+                    double time = now + Math.round(random.nextDouble() * 200.0) / 100.0;
+                    add(queue, reference,
+                            new Entry(time, 1 + random.nextInt(1000), payload++));
+                } else {
+                    now = poll(queue, reference).time;
+                }
+            }
+            drain(queue, reference);
+        }
+    }
+
+    @Test
+    void handlesEntriesFarBeyondOneYearOfBuckets() {
+        Random random = new Random(3);
+        CalendarQueue queue = new CalendarQueue(16);
+        PriorityQueue<Entry> reference = new PriorityQueue<Entry>();
+        /*
+         * A dense cluster sets a small bucket width, then far outliers need the direct search.
+         */
+        int payload = 0;
+        for (int i = 0; i < 100; i++) {
+            add(queue, reference, new Entry(i * 0.001, i + 1, payload++));
+        }
+        for (int i = 0; i < 200; i++) {
+            double time = (random.nextBoolean() ? 1e6 : 1e3) * random.nextDouble();
+            add(queue, reference, new Entry(time, i + 1, payload++));
+            if (i % 3 == 0) {
+                poll(queue, reference);
+            }
+        }
+        drain(queue, reference);
+    }
+
+    private void add(CalendarQueue queue, PriorityQueue<Entry> reference, Entry entry) {
+        assertEquals(this.added.size(), entry.payload);
+        this.added.add(entry);
+        queue.add(entry.time, entry.customerId, entry.payload);
+        reference.add(entry);
+        assertEquals(reference.size(), queue.size());
+    }
+
+    /**
+     * Polls both queues, whose entries must have the same key, equal keys coming out in
+     * either order.
+     */
+    private Entry poll(CalendarQueue queue, PriorityQueue<Entry> reference) {
+        Entry expected = reference.poll();
+        Entry actual = this.added.get(queue.poll());
+        assertEquals(expected.time, actual.time);
+        assertEquals(expected.customerId, actual.customerId, () -> "at time " + expected.time);
+        assertEquals(reference.size(), queue.size());
+        return expected;
+    }
+
+    private void drain(CalendarQueue queue, PriorityQueue<Entry> reference) {
+        while (!reference.isEmpty()) {
+            poll(queue, reference);
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
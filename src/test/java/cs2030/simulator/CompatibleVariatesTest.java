@@ -0,0 +1,90 @@
+package cs2030.simulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the COMPATIBLE variates, one java.util.Random per stream or the Lcg48 blocks of
+ * COMPATIBLE_BLOCK, draw exactly what the baseline RandomGenerator drew.
+ * the expected values were printed by RandomGenerator(1, 1.0, 1.0, 0.1), five of each kind.
+ */
+class CompatibleVariatesTest {
+
+    private static final double[] INTER_ARRIVAL_TIMES = {
+        0x1.41085d1174831p-2, 0x1.c865b77f6913p-1, 0x1.9253a9b66209ep0, 0x1.19b7eea1db62p0,
+        0x1.0c7ef5dd234a8p-5,
+    };
+    private static final double[] SERVICE_TIMES = {
+        0x1.40a7fd8b9fde2p-2, 0x1.a8f94240d86bap-4, 0x1.6627c87da1598p-1, 0x1.d2156ea903479p-7,
+        0x1.3bbedbe4fa183p-3,
+    };
+    private static final double[] RANDOM_RESTS = {
+        0x1.764d26c7fd02cp-1, 0x1.22c88b38939f8p-4, 0x1.12ec6e53d49ep-4, 0x1.894bdf499e621p-1,
+        0x1.d194d5b4648ccp-3,
+    };
+    private static final double[] REST_PERIODS = {
+        0x1.91c2f55e9da6bp1, 0x1.b2135cef21e04p-1, 0x1.b2abe0b24235p-1, 0x1.ee7b589fa6ba9p1,
+        0x1.975fbc614698ep4,
+    };
+    private static final double[] CUSTOMER_TYPES = {
+        0x1.7606b3169ae5ap-1, 0x1.6981a67280738p-4, 0x1.f4a364f1e9dbcp-2, 0x1.d8ebdad389094p-2,
+        0x1.cb5d606d748c4p-2,
+    };
+
+    @Test
+    void compatibleMatchesRandomGenerator() {
+        assertMatchesRandomGenerator(VariateType.COMPATIBLE);
+    }
+
+    @Test
+    void compatibleBlockMatchesRandomGenerator() {
+        assertMatchesRandomGenerator(VariateType.COMPATIBLE_BLOCK);
+    }
+
+    @Test
+    void replicationsAreSeededSixApart() {
+        /*
+         * RandomGenerator(7, 2.5, 1.5, 0.5), first draw of each kind.
+         */
+        for (VariateType type : new VariateType[] {
+            VariateType.COMPATIBLE, VariateType.COMPATIBLE_BLOCK}) {
+            VariateSource rng = type.create(1, 1, 2.5, 1.5, 0.5);
+            assertEquals(0.12550144447009154, rng.genInterArrivalTime(1), type.toString());
+            assertEquals(0.20957785727967124, rng.genServiceTime(1), type.toString());
+            assertEquals(0.6282429418039197, rng.genRestPeriod(1), type.toString());
+            assertEquals(0.7301615514268123, rng.genRandomRest(1), type.toString());
+            assertEquals(0.7303407149712222, rng.genCustomerType(1), type.toString());
+        }
+    }
+
+    @Test
+    void lcg48MatchesJavaUtilRandom() {
+        for (long seed : new long[] {0, 1, -1, 42, Long.MAX_VALUE}) {
+            Random random = new Random(seed);
+            Lcg48 single = new Lcg48(seed);
+            Lcg48 block = new Lcg48(seed);
+            double[] values = new double[1000];
+            block.nextDoubles(values);
+            for (double value : values) {
+                double expected = random.nextDouble();
+                assertEquals(expected, single.nextDouble());
+                assertEquals(expected, value);
+            }
+        }
+    }
+
+    private static void assertMatchesRandomGenerator(VariateType type) {
+        VariateSource rng = type.create(1, 0, 1.0, 1.0, 0.1);
+        for (int i = 0; i < 5; i++) {
+            String draw = type + " draw " + i;
+            assertEquals(INTER_ARRIVAL_TIMES[i], rng.genInterArrivalTime(i + 1), draw);
+            assertEquals(SERVICE_TIMES[i], rng.genServiceTime(i + 1), draw);
+            assertEquals(RANDOM_RESTS[i], rng.genRandomRest(1), draw);
+            assertEquals(REST_PERIODS[i], rng.genRestPeriod(1), draw);
+            assertEquals(CUSTOMER_TYPES[i], rng.genCustomerType(i + 1), draw);
+        }
+    }
+}
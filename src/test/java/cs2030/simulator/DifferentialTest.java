@@ -0,0 +1,53 @@
+package cs2030.simulator;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Differential test of every engine configuration against the reference configuration.
+ * each trial draws random inputs of one level, cycling through levels 1 to 5, and runs them
+ * on the reference configuration, the OBJECT engine on a PRIORITY_QUEUE printing with
+ * String.format exactly as Main1 to Main5 do, and on every other combination of engine,
+ * scheduler and trace sink, the binary event log being decoded back to text. the outputs,
+ * trace then Statistics, and the per-server metrics of describe must match line by line.
+ * level 5 trials draw from a random VariateType, the same one on every configuration.
+ * the differential.trials, differential.maxCustomers and differential.seed properties set
+ * the number of trials, the largest trial and the seed, trial i drawing from seed + i so
+ * that a failing trial can be rerun on its own.
+ */
+class DifferentialTest {
+
+    private static final int TRIALS = Integer.getInteger("differential.trials", 100);
+    private static final int MAX_CUSTOMERS = Integer.getInteger("differential.maxCustomers",
+            200);
+    private static final long SEED = Long.getLong("differential.seed", 1L);
+
+    static IntStream trials() {
+        return IntStream.range(0, TRIALS);
+    }
+
+    @ParameterizedTest(name = "trial {0}")
+    @MethodSource("trials")
+    void everyConfigurationMatchesTheReference(int trial) {
+        RandomScenario scenario = new RandomScenario(trial % 5 + 1, new Random(SEED + trial),
+                MAX_CUSTOMERS);
+        String[] expected = scenario.run(EngineType.OBJECT, SchedulerType.PRIORITY_QUEUE,
+                Outputs.SinkType.PRINT);
+        for (EngineType engineType : EngineType.values()) {
+            for (SchedulerType schedulerType : SchedulerType.values()) {
+                for (Outputs.SinkType sinkType : Outputs.SinkType.values()) {
+                    String difference = Outputs.diff(expected,
+                            scenario.run(engineType, schedulerType, sinkType));
+                    assertNull(difference, () -> String.format("seed %d %s on %s %s %s: %s",
+                            SEED + trial, scenario, engineType, schedulerType, sinkType,
+                            difference));
+                }
+            }
+        }
+    }
+}
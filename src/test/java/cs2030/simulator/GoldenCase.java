@@ -0,0 +1,127 @@
+package cs2030.simulator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Inputs of one golden case, in the form Main1 to Main5 read them, and the output the
+ * baseline simulator printed for them.
+ */
+final class GoldenCase {
+
+    private final String name;
+    private final int level;
+    private final int numServers;
+    private final int numSelfCheckoutServers;
+    private final int maxQueue;
+    private final DoubleColumn arrivalTimes;
+    private final DoubleColumn serviceTimes;
+    private final DoubleColumn serverRestTimes;
+    private final int baseSeed;
+    private final int numCustomers;
+    private final double arrivalRate;
+    private final double serviceRate;
+    private final double restingRate;
+    private final double probRest;
+    private final double probGreedy;
+    private final String[] expected;
+
+    /**
+     * Reads the case.
+     * @param input L<level>_<case>.in, next to its golden L<level>_<case>.out
+     */
+    GoldenCase(Path input) {
+        String fileName = input.getFileName().toString();
+        this.name = fileName.substring(0, fileName.length() - ".in".length());
+        this.level = fileName.charAt(1) - '0';
+        if (this.level < 1 || this.level > 5) {
+            throw new IllegalArgumentException("golden input " + input
+                    + " is not named L<level>_<case>.in");
+        }
+        Path output = input.resolveSibling(this.name + ".out");
+        InputReader in;
+        try {
+            in = new InputReader(Channels.newChannel(
+                    new ByteArrayInputStream(Files.readAllBytes(input))), 1 << 16);
+            this.expected = new String(Files.readAllBytes(output), StandardCharsets.UTF_8)
+                .split("\\R");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.baseSeed = (this.level == 5) ? in.nextInt() : 0;
+        this.numServers = in.nextInt();
+        this.numSelfCheckoutServers = (this.level >= 4) ? in.nextInt() : 0;
+        this.maxQueue = (this.level >= 2) ? in.nextInt() : 1;
+        this.numCustomers = (this.level >= 3) ? in.nextInt() : 0;
+        if (this.level == 5) {
+            this.arrivalRate = in.nextDouble();
+            this.serviceRate = in.nextDouble();
+            this.restingRate = in.nextDouble();
+            this.probRest = in.nextDouble();
+            this.probGreedy = in.nextDouble();
+            this.arrivalTimes = null;
+            this.serviceTimes = null;
+            this.serverRestTimes = null;
+            return;
+        }
+        this.arrivalRate = 0.0;
+        this.serviceRate = 0.0;
+        this.restingRate = 0.0;
+        this.probRest = 0.0;
+        this.probGreedy = 0.0;
+        in.skipLine();
+        if (this.level == 1) {
+            this.arrivalTimes = DoubleColumn.of(in.remainingDoubles());
+            this.serviceTimes = null;
+            this.serverRestTimes = null;
+        } else if (this.level == 2) {
+            double[][] customers = in.remainingColumns(2);
+            this.arrivalTimes = DoubleColumn.of(customers[0]);
+            this.serviceTimes = DoubleColumn.of(customers[1]);
+            this.serverRestTimes = null;
+        } else {
+            double[][] customers = in.nextColumns(2, this.numCustomers);
+            this.arrivalTimes = DoubleColumn.of(customers[0]);
+            this.serviceTimes = DoubleColumn.of(customers[1]);
+            this.serverRestTimes = DoubleColumn.of(in.remainingDoubles());
+        }
+    }
+
+    /**
+     * Runs the inputs on one configuration.
+     * @param engineType engine to run on
+     * @param schedulerType EventQueue implementation to run on
+     * @param sinkType how the trace is written
+     * @return output lines, trace then Statistics, as Main1 to Main5 print them
+     */
+    String[] run(EngineType engineType, SchedulerType schedulerType,
+                 Outputs.SinkType sinkType) {
+        Simulator simulator = new Simulator(this.numServers, this.maxQueue, schedulerType,
+                engineType);
+        return Outputs.of(sinkType, out -> (this.level == 5)
+            ? simulator.collect(this.baseSeed, this.numSelfCheckoutServers,
+                    this.numCustomers, this.arrivalRate, this.serviceRate,
+                    this.restingRate, this.probRest, this.probGreedy, out, null)
+            : simulator.collect(this.numSelfCheckoutServers, this.arrivalTimes,
+                    this.serviceTimes, this.serverRestTimes, out, null), false);
+    }
+
+    /**
+     * Output the baseline simulator printed for the inputs.
+     * @return output lines, trace then Statistics
+     */
+    String[] getExpected() {
+        return this.expected;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
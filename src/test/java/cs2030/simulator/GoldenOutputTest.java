@@ -0,0 +1,56 @@
+package cs2030.simulator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Regression test of every engine configuration against golden outputs.
+ * the golden directory, golden/ or the golden.dir property, holds inputs of Main1 to Main5
+ * named L<level>_<case>.in, next to the trace and Statistics the baseline simulator printed
+ * for them in <name>.out. every case is run on every combination of engine, scheduler and
+ * trace sink and must match its golden output line by line, level 5 on the COMPATIBLE
+ * variates the baseline drew from.
+ */
+class GoldenOutputTest {
+
+    static List<GoldenCase> goldenCases() {
+        Path directory = Paths.get(System.getProperty("golden.dir", "golden"));
+        List<GoldenCase> cases = new ArrayList<GoldenCase>();
+        try (DirectoryStream<Path> inputs = Files.newDirectoryStream(directory, "L*.in")) {
+            for (Path input : inputs) {
+                cases.add(new GoldenCase(input));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        assertFalse(cases.isEmpty(), "no golden cases in " + directory);
+        return cases;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("goldenCases")
+    void matchesGoldenOutputOnEveryConfiguration(GoldenCase golden) {
+        for (EngineType engineType : EngineType.values()) {
+            for (SchedulerType schedulerType : SchedulerType.values()) {
+                for (Outputs.SinkType sinkType : Outputs.SinkType.values()) {
+                    String difference = Outputs.diff(golden.getExpected(),
+                            golden.run(engineType, schedulerType, sinkType));
+                    assertNull(difference, () -> String.format("golden %s on %s %s %s: %s",
+                            golden, engineType, schedulerType, sinkType, difference));
+                }
+            }
+        }
+    }
+}
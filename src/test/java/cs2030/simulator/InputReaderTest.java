@@ -0,0 +1,153 @@
+package cs2030.simulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the hand-written double parser of InputReader reads exactly the value
+ * Double.parseDouble does, on both sides of the limits of its exact fast path.
+ */
+class InputReaderTest {
+
+    private static final String[] EDGE_CASES = {
+        "0", "-0", "+0", "0.0", "-0.0", "000", "-000.000", "0e5", "-0e-5",
+        "1", "-1", "+1", "007", "-007.5", "0000.125", "00012.50000",
+        /*
+         * 15 significant digits, the last exact ones, then 16 and 17.
+         */
+        "123456789012345", "999999999999999", "0.123456789012345", "-12345678.9012345",
+        "1234567890123456", "9999999999999999", "9007199254740993", "0.1234567890123456",
+        "12345678901234567", "1.2345678901234567",
+        /*
+         * Decimal exponents at and just past the exact powers of ten.
+         */
+        "1e22", "1e-22", "1e23", "1e-23", "9e22", "9e-22", "9e23", "9e-23",
+        "123456789012345e22", "123456789012345e-22", "123456789012345e23",
+        "123456789012345e-23", "0.1e23", "10e22", "10e-23", "1.5E22", "1.5E-23",
+        "0.0000000000000000000001", "0.00000000000000000000001",
+        "10000000000000000000000", "100000000000000000000000",
+        /*
+         * Values Scanner input actually holds, and extremes.
+         */
+        "0.1", "0.2", "0.3", "1.0", "2.5", "0.999", "1.001", "3.14159",
+        "1.7976931348623157e308", "4.9e-324", "2.2250738585072014E-308", "1e400", "1e-400",
+        "Infinity", "-Infinity",
+    };
+
+    @Test
+    void edgeCasesMatchParseDouble() {
+        for (String token : EDGE_CASES) {
+            assertSameDouble(token);
+        }
+    }
+
+    @Test
+    void randomDecimalsMatchParseDouble() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200000; i++) {
+            assertSameDouble(randomDecimal(random));
+        }
+    }
+
+    @Test
+    void nextDoubleReadsEveryTokenAsParseDoubleDoes() {
+        Random random = new Random(2);
+        String[] tokens = new String[5000];
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = (i < EDGE_CASES.length) ? EDGE_CASES[i] : randomDecimal(random);
+            input.append(tokens[i]).append((i % 7 == 0) ? '\n' : ' ');
+        }
+        /*
+         * A small buffer, so that tokens straddle its refills.
+         */
+        InputReader in = reader(input.toString(), 64);
+        for (String token : tokens) {
+            assertEquals(Double.doubleToRawLongBits(Double.parseDouble(token)),
+                    Double.doubleToRawLongBits(in.nextDouble()), token);
+        }
+        assertFalse(in.hasNext());
+    }
+
+    @Test
+    void rejectsWhatScannerRejects() {
+        for (String token : new String[] {"", "-", ".", "e5", "1e", "1.2.3", "0x10", "1d",
+            "2f", "abc", "1,5"}) {
+            assertTrue(Double.isNaN(parse(token)), token);
+        }
+        InputReader in = reader("1.5 x", 16);
+        assertEquals(1.5, in.nextDouble());
+        assertFalse(in.hasNextDouble());
+        assertThrows(InputMismatchException.class, in::nextDouble);
+    }
+
+    @Test
+    void remainingDoublesStopsAtTheFirstNonDouble() {
+        InputReader in = reader("1 2.5 -0 3e1 end 4", 16);
+        double[] values = in.remainingDoubles();
+        assertEquals(4, values.length);
+        assertEquals(30.0, values[3]);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(values[2]));
+        assertTrue(in.hasNext());
+    }
+
+    /**
+     * Draws a decimal of 1 to 20 significant digits, with leading zeros, a sign, a point
+     * and an exponent around the fast path limits, each some of the time.
+     */
+    private static String randomDecimal(Random random) {
+        StringBuilder token = new StringBuilder();
+        int sign = random.nextInt(4);
+        if (sign == 0) {
+            token.append('-');
+        } else if (sign == 1) {
+            token.append('+');
+        }
+        int zeros = (random.nextInt(4) == 0) ? 1 + random.nextInt(5) : 0;
+        for (int i = 0; i < zeros; i++) {
+            token.append('0');
+        }
+        int digits = 1 + random.nextInt(20);
+        int point = random.nextInt(digits + 2) - 1;
+        for (int i = 0; i < digits; i++) {
+            if (i == point) {
+                token.append('.');
+            }
+            token.append((char) ('0' + random.nextInt(10)));
+        }
+        if (random.nextBoolean()) {
+            token.append(random.nextBoolean() ? 'e' : 'E');
+            int exponent = random.nextInt(61) - 30;
+            if (exponent >= 0 && random.nextBoolean()) {
+                token.append('+');
+            }
+            token.append(exponent);
+        }
+        return token.toString();
+    }
+
+    private static double parse(String token) {
+        byte[] bytes = token.getBytes(StandardCharsets.ISO_8859_1);
+        return InputReader.parseDouble(bytes, 0, bytes.length, Double.NaN);
+    }
+
+    private static void assertSameDouble(String token) {
+        assertEquals(Double.doubleToRawLongBits(Double.parseDouble(token)),
+                Double.doubleToRawLongBits(parse(token)), token);
+    }
+
+    private static InputReader reader(String input, int capacity) {
+        return new InputReader(Channels.newChannel(new ByteArrayInputStream(
+                input.getBytes(StandardCharsets.ISO_8859_1))), capacity);
+    }
+}
@@ -0,0 +1,99 @@
+package cs2030.simulator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+/**
+ * Runs a simulation on one kind of TraceSink and collects what it printed, so that the
+ * outputs of different configurations can be compared line by line.
+ */
+final class Outputs {
+
+    /**
+     * How the trace of a configuration is written.
+     * BINARY writes the event log, decoded back to text after the run.
+     */
+    enum SinkType {
+        PRINT, BUFFERED, BINARY
+    }
+
+    private Outputs() {
+    }
+
+    /**
+     * Runs one configuration and collects its output.
+     * @param sinkType how the trace is written
+     * @param simulation runs the simulation on the given TraceSink
+     * @param describe whether to add the per-server metrics after the Statistics
+     * @return output lines, trace then Statistics, then the per-server metrics if described
+     */
+    static String[] of(SinkType sinkType,
+                       Function<TraceSink, StatisticsAccumulator> simulation,
+                       boolean describe) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream text = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        Path log = null;
+        TraceSink out;
+        if (sinkType == SinkType.PRINT) {
+            out = new PrintTraceSink(text);
+        } else if (sinkType == SinkType.BUFFERED) {
+            out = new BufferedTraceSink(text);
+        } else {
+            try {
+                log = Files.createTempFile("differential", ".log");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            out = new BinaryTraceSink(log);
+        }
+
+        StatisticsAccumulator stats;
+        try {
+            stats = simulation.apply(out);
+        } finally {
+            out.close();
+        }
+        if (log != null) {
+            try (EventLogReader reader = new EventLogReader(log)) {
+                reader.replay(new PrintTraceSink(text));
+            }
+            try {
+                Files.delete(log);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        text.println(stats);
+        if (describe) {
+            text.println(stats.describe());
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8).split("\\R");
+    }
+
+    /**
+     * Compares two outputs line by line.
+     * @param expected lines of the reference
+     * @param actual lines of the configuration under test
+     * @return description of the first difference, or null if the outputs are identical
+     */
+    static String diff(String[] expected, String[] actual) {
+        int length = Math.min(expected.length, actual.length);
+        for (int i = 0; i < length; i++) {
+            if (!expected[i].equals(actual[i])) {
+                return String.format("line %d expected \"%s\" but was \"%s\"",
+                        i + 1, expected[i], actual[i]);
+            }
+        }
+        if (expected.length != actual.length) {
+            return String.format("expected %d lines but was %d",
+                    expected.length, actual.length);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package cs2030.simulator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Random inputs of one level, in the form Main1 to Main5 read them.
+ * times are drawn on a grid of 0.001 so that events of different customers tie often.
+ * at levels 2 and 4, which take arrivals in any order, half the scenarios shuffle them.
+ */
+final class RandomScenario {
+
+    private static final int MAX_SERVERS = 5;
+    private static final int MAX_SELF_CHECKOUT = 3;
+    private static final int MAX_QUEUE = 4;
+
+    private final int level;
+    private final int numServers;
+    private final int numSelfCheckoutServers;
+    private final int maxQueue;
+    private final List<Double> arrivalTimes;
+    private final List<Double> serviceTimes;
+    private final List<Double> serverRestTimes;
+    private final int baseSeed;
+    private final int numCustomers;
+    private final double arrivalRate;
+    private final double serviceRate;
+    private final double restingRate;
+    private final double probRest;
+    private final double probGreedy;
+    private final VariateType variateType;
+    private final boolean shuffled;
+
+    /**
+     * Draws the inputs.
+     * @param level level of the inputs, 1 to 5
+     * @param random source of every draw
+     * @param maxCustomers largest number of customers to draw
+     */
+    RandomScenario(int level, Random random, int maxCustomers) {
+        this.level = level;
+        this.numServers = 1 + random.nextInt(MAX_SERVERS);
+        this.numSelfCheckoutServers = (level >= 4)
+            ? random.nextInt(MAX_SELF_CHECKOUT + 1) : 0;
+        this.maxQueue = 1 + random.nextInt(MAX_QUEUE);
+        this.numCustomers = 1 + random.nextInt(maxCustomers);
+
+        /*
+         * Rates around saturation of the servers, so that customers wait and leave.
+         */
+        double capacity = this.numServers + this.numSelfCheckoutServers;
+        this.serviceRate = 0.5 + random.nextDouble();
+        this.arrivalRate = capacity * this.serviceRate * (0.5 + random.nextDouble());
+        this.restingRate = 0.1 + random.nextDouble();
+        this.probRest = (level >= 3) ? random.nextDouble() * 0.5 : 0.0;
+        this.probGreedy = random.nextDouble() * 0.5;
+        this.baseSeed = random.nextInt(1000000);
+
+        this.arrivalTimes = new ArrayList<Double>(this.numCustomers);
+        this.serviceTimes = new ArrayList<Double>(this.numCustomers);
+        this.serverRestTimes = new ArrayList<Double>(this.numCustomers);
+        double time = 0.0;
+        for (int i = 0; i < this.numCustomers; i++) {
+            time += grid(exponential(random, this.arrivalRate));
+            this.arrivalTimes.add(grid(time));
+            this.serviceTimes.add(Math.max(0.001,
+                    grid(exponential(random, this.serviceRate))));
+            this.serverRestTimes.add((random.nextDouble() < this.probRest)
+                ? Math.max(0.001, grid(exponential(random, this.restingRate))) : 0.0);
+        }
+        VariateType[] variateTypes = VariateType.values();
+        this.variateType = variateTypes[random.nextInt(variateTypes.length)];
+        this.shuffled = (level == 2 || level == 4) && random.nextBoolean();
+        if (this.shuffled) {
+            Collections.shuffle(this.arrivalTimes, random);
+        }
+    }
+
+    private static double exponential(Random random, double rate) {
+        return -Math.log(1.0 - random.nextDouble()) / rate;
+    }
+
+    private static double grid(double time) {
+        return Math.round(time * 1000.0) / 1000.0;
+    }
+
+    /**
+     * Runs the inputs on one configuration.
+     * @param engineType engine to run on
+     * @param schedulerType EventQueue implementation to run on
+     * @param sinkType how the trace is written
+     * @return output lines, trace then Statistics then the per-server metrics
+     */
+    String[] run(EngineType engineType, SchedulerType schedulerType,
+                 Outputs.SinkType sinkType) {
+        return Outputs.of(sinkType, out -> run(new Simulator(this.numServers,
+                this.maxQueue, schedulerType, engineType), out), true);
+    }
+
+    private StatisticsAccumulator run(Simulator simulator, TraceSink out) {
+        int numSelf = this.numSelfCheckoutServers;
+        if (this.level == 5) {
+            simulator.setVariateType(this.variateType);
+            return simulator.collect(this.baseSeed, numSelf, this.numCustomers,
+                    this.arrivalRate, this.serviceRate, this.restingRate,
+                    this.probRest, this.probGreedy, out, null);
+        }
+        DoubleColumn service = (this.level >= 2) ? DoubleColumn.of(this.serviceTimes) : null;
+        DoubleColumn rest = (this.level >= 3) ? DoubleColumn.of(this.serverRestTimes) : null;
+        return simulator.collect(numSelf, DoubleColumn.of(this.arrivalTimes), service, rest,
+                out, null);
+    }
+
+    @Override
+    public String toString() {
+        String scenario = String.format(
+                "level %d, %d servers, %d self-check, queue %d, %d customers",
+                this.level, this.numServers, this.numSelfCheckoutServers, this.maxQueue,
+                this.numCustomers);
+        if (this.shuffled) {
+            scenario += ", shuffled arrivals";
+        }
+        return (this.level == 5) ? scenario + ", " + this.variateType : scenario;
+    }
+}
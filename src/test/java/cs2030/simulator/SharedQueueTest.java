@@ -0,0 +1,123 @@
+package cs2030.simulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks SharedQueue against an ArrayDeque with removal by customer ID, through growth of
+ * its ring and hash index, holes left by removals and the capacity limit.
+ */
+class SharedQueueTest {
+
+    @Test
+    void removedCustomersAtTheFrontAreSkipped() {
+        SharedQueue queue = new SharedQueue(10);
+        Customer[] customers = new Customer[6];
+        for (int i = 0; i < customers.length; i++) {
+            customers[i] = new Customer(i + 1, i);
+            assertTrue(queue.offer(customers[i]));
+        }
+        assertTrue(queue.remove(1));
+        assertTrue(queue.remove(2));
+        assertTrue(queue.remove(4));
+        assertFalse(queue.remove(2));
+        assertEquals(3, queue.size());
+        assertSame(customers[2], queue.peek());
+        assertSame(customers[2], queue.poll());
+        assertSame(customers[4], queue.poll());
+        assertSame(customers[5], queue.poll());
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void offerRespectsTheCapacity() {
+        SharedQueue queue = new SharedQueue(2);
+        assertTrue(queue.offer(new Customer(1, 0.0)));
+        assertTrue(queue.offer(new Customer(2, 0.0)));
+        assertFalse(queue.offer(new Customer(3, 0.0)));
+        assertTrue(queue.remove(1));
+        assertTrue(queue.offer(new Customer(3, 0.0)));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void rejectsCustomerIdsThatAreNotPositive() {
+        SharedQueue queue = new SharedQueue(2);
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(new Customer(0, 0.0)));
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(new Customer(-1, 0.0)));
+        assertEquals(0, queue.size());
+        assertFalse(queue.remove(0));
+    }
+
+    @Test
+    void matchesArrayDequeUnderRandomOperations() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 50; trial++) {
+            int capacity = 1 + random.nextInt(300);
+            SharedQueue queue = new SharedQueue(capacity);
+            ArrayDeque<Customer> reference = new ArrayDeque<Customer>();
+            /*
+             * IDs of the waiting customers, in queue order.
+             */
+            List<Integer> waiting = new ArrayList<Integer>();
+            int nextId = 1;
+            for (int step = 0; step < 20000; step++) {
+                int operation = random.nextInt(10);
+                if (operation < 5) {
+                    /*
+                     * IDs of customers that left are sometimes reused, as the index must allow.
+                     */
+                    int id = (nextId > 1 && random.nextInt(10) == 0)
+                        ? 1 + random.nextInt(nextId - 1) : nextId++;
+                    if (waiting.contains(id)) {
+                        id = nextId++;
+                    }
+                    Customer customer = new Customer(id, step);
+                    boolean expected = reference.size() < capacity;
+                    assertEquals(expected, queue.offer(customer));
+                    if (expected) {
+                        reference.add(customer);
+                        waiting.add(id);
+                    }
+                } else if (operation < 7) {
+                    Customer expected = reference.poll();
+                    assertSame(expected, queue.poll());
+                    if (expected != null) {
+                        waiting.remove(Integer.valueOf(expected.getCustomerId()));
+                    }
+                } else if (operation < 9 && !waiting.isEmpty()) {
+                    /*
+                     * Removal from anywhere, the front more often, leaving holes to skip.
+                     */
+                    int id = waiting.get(random.nextBoolean()
+                            ? 0 : random.nextInt(waiting.size()));
+                    reference.removeIf(customer -> customer.getCustomerId() == id);
+                    waiting.remove(Integer.valueOf(id));
+                    assertTrue(queue.remove(id));
+                    assertFalse(queue.remove(id));
+                } else {
+                    assertFalse(queue.remove(nextId + 1));
+                }
+                assertEquals(reference.size(), queue.size());
+                assertSame(reference.peek(), queue.peek());
+            }
+            while (!reference.isEmpty()) {
+                assertSame(reference.poll(), queue.poll());
+            }
+            assertNull(queue.poll());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package cs2030.simulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the buckets of WaitTimeHistogram, its clamping below 2^-20 and above 2^36, its
+ * relative error bound of 1 / 128 and merging.
+ */
+class WaitTimeHistogramTest {
+
+    private static final double MIN_VALUE = 0x1p-20;
+    private static final double MAX_VALUE = 0x1p36;
+    private static final double RELATIVE_ERROR = 1.0 / 128;
+
+    /**
+     * Far above every bucket under test, so that the max never caps their quantile.
+     */
+    private static final double LARGE = 0x1p30;
+
+    @Test
+    void emptyHistogramReportsZero() {
+        WaitTimeHistogram histogram = new WaitTimeHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getQuantile(0.5));
+        assertEquals(0.0, histogram.getMax());
+    }
+
+    @Test
+    void bucketsSplitEachPowerOfTwoIntoSixtyFour() {
+        for (int exponent = -20; exponent < 30; exponent += 7) {
+            double power = Math.scalb(1.0, exponent);
+            for (int sub = 0; sub < 64; sub++) {
+                double low = power * (1 + sub / 64.0);
+                double midpoint = power * (1 + (sub + 0.5) / 64.0);
+                assertEquals(midpoint, medianWithLarge(low), "low edge " + low);
+                double high = Math.nextDown(power * (1 + (sub + 1) / 64.0));
+                assertEquals(midpoint, medianWithLarge(high), "high edge " + high);
+            }
+        }
+    }
+
+    @Test
+    void quantileIsCappedByTheMax() {
+        WaitTimeHistogram histogram = new WaitTimeHistogram();
+        histogram.add(1.0);
+        assertEquals(1.0, histogram.getQuantile(0.5));
+        assertEquals(1.0, histogram.getQuantile(1.0));
+    }
+
+    @Test
+    void waitsBelowTheFirstBucketCountAsZero() {
+        WaitTimeHistogram histogram = new WaitTimeHistogram();
+        histogram.add(0.0);
+        histogram.add(Math.nextDown(MIN_VALUE));
+        histogram.add(1e-9);
+        histogram.add(LARGE);
+        assertEquals(4, histogram.getCount());
+        assertEquals(0.0, histogram.getQuantile(0.75));
+        assertEquals(MIN_VALUE * (1 + 0.5 / 64), medianWithLarge(MIN_VALUE));
+    }
+
+    @Test
+    void waitsAboveTheLastBucketFallInIt() {
+        WaitTimeHistogram histogram = new WaitTimeHistogram();
+        histogram.add(MAX_VALUE);
+        histogram.add(1e15);
+        histogram.add(Double.MAX_VALUE);
+        double lastBucket = MAX_VALUE * (1 - 0.5 / 128);
+        assertEquals(lastBucket, histogram.getQuantile(0.0));
+        assertEquals(lastBucket, histogram.getQuantile(1.0));
+        assertEquals(Double.MAX_VALUE, histogram.getMax());
+    }
+
+    @Test
+    void quantilesAreWithinTheRelativeErrorBound() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 1 + random.nextInt(5000);
+            double[] waits = new double[n];
+            WaitTimeHistogram histogram = new WaitTimeHistogram();
+            for (int i = 0; i < n; i++) {
+                waits[i] = (random.nextInt(4) == 0)
+                    ? -Math.log(1.0 - random.nextDouble())
+                    : Math.scalb(1.0 + random.nextDouble(), random.nextInt(56) - 20);
+                histogram.add(waits[i]);
+            }
+            Arrays.sort(waits);
+            for (double quantile : new double[] {0.0, 0.01, 0.25, 0.5, 0.9, 0.95, 0.99, 1.0}) {
+                int rank = Math.max(1, (int) Math.ceil(quantile * n));
+                double exact = waits[rank - 1];
+                double estimate = histogram.getQuantile(quantile);
+                assertTrue(Math.abs(estimate - exact) <= RELATIVE_ERROR * exact,
+                        "quantile " + quantile + " of " + n + " exact " + exact
+                        + " estimate " + estimate);
+            }
+        }
+    }
+
+    @Test
+    void mergeMatchesOneHistogramOfEveryWait() {
+        Random random = new Random(2);
+        WaitTimeHistogram all = new WaitTimeHistogram();
+        WaitTimeHistogram first = new WaitTimeHistogram();
+        WaitTimeHistogram second = new WaitTimeHistogram();
+        for (int i = 0; i < 10000; i++) {
+            double wait = -Math.log(1.0 - random.nextDouble()) * ((i % 3 == 0) ? 10 : 1);
+            all.add(wait);
+            ((random.nextBoolean()) ? first : second).add(wait);
+        }
+        first.merge(second);
+        assertEquals(all.getCount(), first.getCount());
+        assertEquals(all.getMax(), first.getMax());
+        for (int i = 0; i <= 100; i++) {
+            assertEquals(all.getQuantile(i / 100.0), first.getQuantile(i / 100.0));
+        }
+        assertEquals(all.toString(), first.toString());
+    }
+
+    /**
+     * Median of a histogram of wait and one larger wait, the midpoint of wait's bucket.
+     */
+    private static double medianWithLarge(double wait) {
+        WaitTimeHistogram histogram = new WaitTimeHistogram();
+        histogram.add(wait);
+        histogram.add(LARGE * 4);
+        return histogram.getQuantile(0.5);
+    }
+}
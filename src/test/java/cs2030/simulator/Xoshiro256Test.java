@@ -0,0 +1,103 @@
+package cs2030.simulator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks Xoshiro256 against outputs of the reference xoshiro256++ implementation in C,
+ * seeded with the state {1, 2, 3, 4}, and the replication streams against plain jumps.
+ */
+class Xoshiro256Test {
+
+    @Test
+    void nextLongMatchesReference() {
+        assertArrayEquals(new long[] {
+            0x0000000002800001L, 0x0000000003800067L, 0x000cc00003800067L, 0x000cc201994400b2L
+        }, draw(reference(), 4));
+    }
+
+    @Test
+    void jumpMatchesReference() {
+        Xoshiro256 generator = reference();
+        generator.jump();
+        assertArrayEquals(new long[] {
+            0xec879073673df437L, 0x20d212a39aca1eaaL, 0xc19d712a27e40f57L, 0x6ff0e08dc71026a1L
+        }, draw(generator, 4));
+    }
+
+    @Test
+    void longJumpMatchesReference() {
+        Xoshiro256 generator = reference();
+        generator.longJump();
+        assertArrayEquals(new long[] {
+            0xb5c4ea370b330bf5L, 0x5173cc693c0fa533L, 0x1dc5df0151f7b491L, 0xe7b055cfeabc4661L
+        }, draw(generator, 4));
+    }
+
+    @Test
+    void jumpsCommute() {
+        Xoshiro256 generator = reference();
+        generator.jump();
+        generator.jump();
+        generator.longJump();
+        long[] expected = {
+            0x95d24eff57efae0aL, 0xb3c0d09168e351b9L, 0x78082a8360fcb895L, 0x63fc3762ebcfb827L
+        };
+        assertArrayEquals(expected, draw(generator, 4));
+        generator = reference();
+        generator.longJump();
+        generator.jump();
+        generator.jump();
+        assertArrayEquals(expected, draw(generator, 4));
+    }
+
+    @Test
+    void nextDoublesMatchesNextDouble() {
+        Xoshiro256 single = new Xoshiro256(7);
+        Xoshiro256 block = new Xoshiro256(7);
+        double[] values = new double[100];
+        block.nextDoubles(values);
+        for (double value : values) {
+            assertEquals(single.nextDouble(), value);
+        }
+        assertEquals(single.nextLong(), block.nextLong());
+    }
+
+    @Test
+    void streamsAreReplicationLongJumpsThenJumpsAfterTheSeed() {
+        /*
+         * Replications out of order, and over several seeds, as parallel runners ask.
+         */
+        int[] replications = {5, 0, 12, 3, 12, 1, 30};
+        for (long seed : new long[] {1, 42, -9}) {
+            for (int replication : replications) {
+                Xoshiro256[] streams = Xoshiro256.streams(seed, replication, 3);
+                Xoshiro256 expected = new Xoshiro256(seed);
+                for (int i = 0; i < replication; i++) {
+                    expected.longJump();
+                }
+                for (Xoshiro256 stream : streams) {
+                    assertArrayEquals(draw(expected.copy(), 8), draw(stream, 8),
+                            "seed " + seed + " replication " + replication);
+                    expected.jump();
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> Xoshiro256.streams(1, -1, 1));
+    }
+
+    private static Xoshiro256 reference() {
+        return new Xoshiro256(1, 2, 3, 4);
+    }
+
+    private static long[] draw(Xoshiro256 generator, int count) {
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = generator.nextLong();
+        }
+        return values;
+    }
+}